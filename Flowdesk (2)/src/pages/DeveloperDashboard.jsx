@@ -2,6 +2,7 @@ import { useEffect, useState } from "react";
 import { useNavigate } from "react-router-dom";
 import DashboardLayout from "../layouts/DashboardLayout";
 import api from "../assets/axios";
+import { getAllPages } from "../utils/pagination";
 import StatsCard from "../components/StatsCard";
 import { CheckCircle, AlertCircle, Clock } from "lucide-react";
 
@@ -29,7 +30,7 @@ export default function DeveloperDashboard() {
         try {
             const [dashRes, tasksRes] = await Promise.all([
                 api.get("/dashboard/developer"),
-                api.get(`/tasks/users/${userId}/tasks`),
+                getAllPages(`/tasks/users/${userId}/tasks`),
             ]);
 
             setData(dashRes.data);
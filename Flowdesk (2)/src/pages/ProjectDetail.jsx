@@ -2,6 +2,7 @@ import { useEffect, useState } from "react";
 import { useParams, useNavigate } from "react-router-dom";
 import DashboardLayout from "../layouts/DashboardLayout";
 import api from "../assets/axios";
+import { getAllPages } from "../utils/pagination";
 import { ArrowLeft } from 'lucide-react';
 
 export default function ProjectDetail() {
@@ -19,7 +20,7 @@ export default function ProjectDetail() {
         try {
             const [projRes, tasksRes] = await Promise.all([
                 api.get(`/projects/${id}`),
-                api.get(`/projects/${id}/tasks`),
+                getAllPages(`/projects/${id}/tasks`),
             ]);
             setProject(projRes.data);
             setTasks(tasksRes.data);
@@ -0,0 +1,13 @@
+import api from "../assets/axios";
+
+// Follows X-Next-Cursor until the last page and resolves like a single api.get
+export const getAllPages = async (url, params = {}) => {
+    const items = [];
+    let cursor = null;
+    do {
+        const res = await api.get(url, { params: { ...params, limit: 200, ...(cursor && { cursor }) } });
+        items.push(...res.data);
+        cursor = res.headers["x-next-cursor"];
+    } while (cursor);
+    return { data: items };
+};
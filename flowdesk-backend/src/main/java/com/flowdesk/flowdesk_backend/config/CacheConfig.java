@@ -0,0 +1,20 @@
+package com.flowdesk.flowdesk_backend.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-process Caffeine caches.
+ * Cache names and specs are declared in application.properties (spring.cache.*);
+ * statistics are published through the actuator metrics endpoint.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String MANAGER_DASHBOARD_CACHE = "managerDashboards";
+    public static final String DEVELOPER_DASHBOARD_CACHE = "developerDashboards";
+    public static final String PROJECT_SCHEDULE_CACHE = "projectSchedules";
+    public static final String IDEMPOTENCY_CACHE = "idempotencyKeys";
+    public static final String RISK_PREDICTION_CACHE = "riskPredictions";
+}
@@ -0,0 +1,42 @@
+package com.flowdesk.flowdesk_backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors for blocking fan-out work; also enables async listeners and scheduled jobs
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ConcurrencyConfig implements WebMvcConfigurer {
+
+    /**
+     * Virtual thread per task executor for dashboard sections, read model refreshes
+     * and schedule updates.
+     * Each task blocks on JDBC, so virtual threads keep fan-out cheap.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService dashboardExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Streaming responses (task exports) are written on a virtual thread each,
+     * since they block on the database cursor and the client socket for their whole length.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-async-");
+        executor.setVirtualThreads(true);
+        configurer.setTaskExecutor(executor);
+    }
+}
@@ -0,0 +1,204 @@
+package com.flowdesk.flowdesk_backend.config;
+
+import com.flowdesk.flowdesk_backend.exception.MLServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Circuit breaker and bulkhead for calls to the ML service
+ * The breaker keeps the outcomes of the last calls in a sliding window and opens once their
+ * failure rate reaches the threshold; while open, calls fail immediately. After the open
+ * duration a few trial calls are let through (half-open): all succeeding closes the breaker,
+ * any failing opens it again. The bulkhead caps concurrent calls, counting a call until its
+ * response body is consumed or released, and rejects the rest instead of queueing them.
+ * Rejected calls fail with MLServiceUnavailableException.
+ */
+@Slf4j
+public class MLCircuitBreakerFilter implements ExchangeFilterFunction {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final String STATE_METRIC = "flowdesk.ml.circuit.state";
+    private static final String TRANSITIONS_METRIC = "flowdesk.ml.circuit.transitions";
+    private static final String REJECTED_METRIC = "flowdesk.ml.calls.rejected";
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final Semaphore bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    // Ring buffer of the last outcomes; true marks a failure
+    private final boolean[] window;
+    private int windowNext;
+    private int windowCalls;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    // Incremented on every transition; results of calls admitted in an earlier state are ignored
+    private long generation;
+    private long openedAt;
+    private int halfOpenAdmitted;
+    private int halfOpenSucceeded;
+
+    public MLCircuitBreakerFilter(int windowSize, int failureRateThreshold, int minimumCalls, Duration openDuration,
+                                  int halfOpenCalls, int maxConcurrentCalls, MeterRegistry meterRegistry) {
+        this.window = new boolean[windowSize];
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(STATE_METRIC, this, breaker -> breaker.getState().ordinal())
+                .description("ML service circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @NonNull
+    public Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        if (!bulkhead.tryAcquire()) {
+            return reject("bulkhead", "ML service call limit reached");
+        }
+        long admittedIn = admit();
+        if (admittedIn < 0) {
+            bulkhead.release();
+            return reject("circuit-open", "ML service circuit breaker is open");
+        }
+
+        // Exactly one outcome and one permit release per call. Both wait for the response body: a call
+        // is only over once its body is consumed or released, and a body that stalls or hits the
+        // caller's timeout counts as a failure like a stalled connect would
+        AtomicBoolean finished = new AtomicBoolean();
+        Consumer<Boolean> finish = success -> {
+            if (finished.compareAndSet(false, true)) {
+                onResult(admittedIn, success);
+                bulkhead.release();
+            }
+        };
+        // Once the response is out, only its body can end the call
+        AtomicBoolean responded = new AtomicBoolean();
+        return next.exchange(request)
+                .map(response -> {
+                    responded.set(true);
+                    return response.mutate()
+                            .body(body -> body
+                                    .doOnComplete(() -> finish.accept(!response.statusCode().is5xxServerError()))
+                                    .doOnError(e -> finish.accept(false))
+                                    .doOnCancel(() -> finish.accept(false)))
+                            .build();
+                })
+                .doOnSuccess(response -> {
+                    if (response == null) {
+                        finish.accept(false);
+                    }
+                })
+                .doOnError(e -> finish.accept(false))
+                .doOnCancel(() -> {
+                    if (!responded.get()) {
+                        finish.accept(false);
+                    }
+                });
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    // Helper methods
+
+    // Generation the call was admitted in, or -1 when the breaker rejects it
+    private synchronized long admit() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return -1;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenAdmitted >= halfOpenCalls) {
+                return -1;
+            }
+            halfOpenAdmitted++;
+        }
+        return generation;
+    }
+
+    private synchronized void onResult(long admittedIn, boolean success) {
+        if (admittedIn != generation) {
+            return;
+        }
+        switch (state) {
+            case CLOSED -> {
+                if (windowCalls == window.length) {
+                    windowFailures -= window[windowNext] ? 1 : 0;
+                } else {
+                    windowCalls++;
+                }
+                window[windowNext] = !success;
+                windowFailures += success ? 0 : 1;
+                windowNext = (windowNext + 1) % window.length;
+
+                if (windowCalls >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCalls) {
+                    transition(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                if (!success) {
+                    transition(State.OPEN);
+                } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                    transition(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // Admitted before the breaker opened; the generation check already skips these
+            }
+        }
+    }
+
+    private void transition(State to) {
+        log.warn("ML service circuit breaker {} -> {} (failures {}/{})", state, to, windowFailures, windowCalls);
+        Counter.builder(TRANSITIONS_METRIC)
+                .description("ML service circuit breaker state transitions")
+                .tag("from", state.name())
+                .tag("to", to.name())
+                .register(meterRegistry)
+                .increment();
+
+        state = to;
+        generation++;
+        openedAt = System.nanoTime();
+        halfOpenAdmitted = 0;
+        halfOpenSucceeded = 0;
+        if (to == State.CLOSED) {
+            windowNext = 0;
+            windowCalls = 0;
+            windowFailures = 0;
+        }
+    }
+
+    private Mono<ClientResponse> reject(String reason, String message) {
+        Counter.builder(REJECTED_METRIC)
+                .description("ML service calls rejected without being attempted")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return Mono.error(new MLServiceUnavailableException(message));
+    }
+}
@@ -1,11 +1,14 @@
 package com.flowdesk.flowdesk_backend.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.tcp.TcpClient;
 
 import java.time.Duration;
@@ -14,17 +17,54 @@ import java.time.Duration;
 @Slf4j
 public class MLServiceConfig {
 
+    @Value("${flowdesk.ml.base-url:http://localhost:5000}")
+    private String baseUrl;
+
+    @Value("${flowdesk.ml.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${flowdesk.ml.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${flowdesk.ml.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${flowdesk.ml.circuit-breaker.open-duration:PT30S}")
+    private Duration openDuration;
+
+    @Value("${flowdesk.ml.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    @Value("${flowdesk.ml.bulkhead.max-concurrent-calls:20}")
+    private int maxConcurrentCalls;
+
+    /**
+     * Shared by every mlWebClient call, so one stalled endpoint fails the others fast too
+     */
+    @Bean
+    public MLCircuitBreakerFilter mlCircuitBreaker(MeterRegistry meterRegistry) {
+        return new MLCircuitBreakerFilter(windowSize, failureRateThreshold, minimumCalls, openDuration,
+                halfOpenCalls, maxConcurrentCalls, meterRegistry);
+    }
+
     @Bean
-    public WebClient mlWebClient() {
-        TcpClient tcpClient = TcpClient.create()
+    public WebClient mlWebClient(MLCircuitBreakerFilter mlCircuitBreaker) {
+        // One connection per call the bulkhead admits; a permit is held until the response body is
+        // consumed or released, which is also when the connection goes back to the pool
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("ml-service")
+                .maxConnections(maxConcurrentCalls)
+                .build();
+
+        TcpClient tcpClient = TcpClient.create(connectionProvider)
                 .option(io.netty.channel.ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
                 .doOnConnected(connection ->
                         connection.addHandlerLast(new io.netty.handler.timeout.ReadTimeoutHandler(10))
                 );
 
         return WebClient.builder()
-                .baseUrl("http://localhost:5000")
+                .baseUrl(baseUrl)
                 .clientConnector(new ReactorClientHttpConnector(HttpClient.from(tcpClient)))
+                .filter(mlCircuitBreaker)
                 .build();
     }
 }
@@ -2,7 +2,7 @@ package com.flowdesk.flowdesk_backend.controller;
 
 import com.flowdesk.flowdesk_backend.dto.response.DeveloperDashboardResponse;
 import com.flowdesk.flowdesk_backend.dto.response.ManagerDashboardResponse;
-import com.flowdesk.flowdesk_backend.service.DashboardService;
+import com.flowdesk.flowdesk_backend.service.DashboardReadModelService;
 import com.flowdesk.flowdesk_backend.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +22,7 @@ import java.util.UUID;
 @Slf4j
 public class DashboardController {
 
-    private final DashboardService dashboardService;
+    private final DashboardReadModelService dashboardReadModelService;
     private final SecurityUtils securityUtils;
 
     /**
@@ -33,7 +33,7 @@ public class DashboardController {
     public ResponseEntity<ManagerDashboardResponse> getManagerDashboard() {
         log.info("Get manager dashboard");
         UUID managerId = securityUtils.getCurrentUserId();
-        ManagerDashboardResponse dashboard = dashboardService.getManagerDashboard(managerId);
+        ManagerDashboardResponse dashboard = dashboardReadModelService.getManagerDashboard(managerId);
         return ResponseEntity.ok(dashboard);
     }
 
@@ -45,7 +45,7 @@ public class DashboardController {
     public ResponseEntity<DeveloperDashboardResponse> getDeveloperDashboard() {
         log.info("Get developer dashboard");
         UUID developerId = securityUtils.getCurrentUserId();
-        DeveloperDashboardResponse dashboard = dashboardService.getDeveloperDashboard(developerId);
+        DeveloperDashboardResponse dashboard = dashboardReadModelService.getDeveloperDashboard(developerId);
         return ResponseEntity.ok(dashboard);
     }
 }
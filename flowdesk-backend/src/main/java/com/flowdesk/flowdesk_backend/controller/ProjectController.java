@@ -2,19 +2,29 @@ package com.flowdesk.flowdesk_backend.controller;
 
 import com.flowdesk.flowdesk_backend.dto.request.CreateProjectRequest;
 import com.flowdesk.flowdesk_backend.dto.request.UpdateProjectRequest;
+import com.flowdesk.flowdesk_backend.dto.response.CriticalPathResponse;
 import com.flowdesk.flowdesk_backend.dto.response.ProjectProgressResponse;
 import com.flowdesk.flowdesk_backend.dto.response.ProjectResponse;
+import com.flowdesk.flowdesk_backend.dto.response.TaskPageResponse;
 import com.flowdesk.flowdesk_backend.dto.response.TaskResponse;
+import com.flowdesk.flowdesk_backend.model.enums.TaskExportFormat;
+import com.flowdesk.flowdesk_backend.model.enums.TaskSortOrder;
+import com.flowdesk.flowdesk_backend.service.CriticalPathService;
 import com.flowdesk.flowdesk_backend.service.ProjectService;
+import com.flowdesk.flowdesk_backend.service.TaskExportService;
 import com.flowdesk.flowdesk_backend.service.TaskService;
+import com.flowdesk.flowdesk_backend.util.ETagUtils;
 import com.flowdesk.flowdesk_backend.util.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -31,6 +41,8 @@ public class ProjectController {
 
     private final ProjectService projectService;
     private final TaskService taskService;
+    private final CriticalPathService criticalPathService;
+    private final TaskExportService taskExportService;
     private final SecurityUtils securityUtils;
 
     /**
@@ -47,13 +59,14 @@ public class ProjectController {
 
     /**
      * Get all projects
+     * fields (comma-separated) limits each project to the listed properties
      */
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<ProjectResponse>> getAllProjects() {
+    public ResponseEntity<List<ProjectResponse>> getAllProjects(@RequestParam(required = false) String fields) {
         log.info("Get all projects request");
         UUID managerId = securityUtils.getCurrentUserId();
-        List<ProjectResponse> projects = projectService.getProjectsByManager(managerId);
+        List<ProjectResponse> projects = projectService.getProjectsByManager(managerId, fields);
         return ResponseEntity.ok(projects);
     }
 
@@ -62,10 +75,16 @@ public class ProjectController {
      */
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable UUID id) {
+    public ResponseEntity<ProjectResponse> getProjectById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Get project by ID: {}", id);
+        String etag = projectService.getProjectETag(id);
+        if (ETagUtils.isNotModified(ifNoneMatch, etag)) {
+            return ETagUtils.notModified(etag);
+        }
         ProjectResponse project = projectService.getProjectById(id);
-        return ResponseEntity.ok(project);
+        return ETagUtils.ok(etag, project);
     }
 
     /**
@@ -86,20 +105,76 @@ public class ProjectController {
      */
     @GetMapping("/{id}/progress")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ProjectProgressResponse> getProjectProgress(@PathVariable UUID id) {
+    public ResponseEntity<ProjectProgressResponse> getProjectProgress(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Get progress for project ID: {}", id);
+        String etag = projectService.getProjectProgressETag(id);
+        if (ETagUtils.isNotModified(ifNoneMatch, etag)) {
+            return ETagUtils.notModified(etag);
+        }
         ProjectProgressResponse progress = projectService.getProjectProgress(id);
-        return ResponseEntity.ok(progress);
+        return ETagUtils.ok(etag, progress);
     }
 
     /**
-     * Get all tasks for a project
+     * Get the project's critical path with earliest/latest start and slack per task
+     */
+    @GetMapping("/{id}/critical-path")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CriticalPathResponse> getCriticalPath(@PathVariable UUID id) {
+        log.info("Get critical path for project ID: {}", id);
+        CriticalPathResponse criticalPath = criticalPathService.getCriticalPath(id);
+        return ResponseEntity.ok(criticalPath);
+    }
+
+    /**
+     * Get a page of tasks for a project
+     * The cursor for the next page is returned in the X-Next-Cursor header;
+     * fields (comma-separated) limits each task to the listed properties
      */
     @GetMapping("/{id}/tasks")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<TaskResponse>> getProjectTasks(@PathVariable UUID id) {
+    public ResponseEntity<List<TaskResponse>> getProjectTasks(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "CREATED_AT") TaskSortOrder sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
         log.info("Get tasks for project ID: {}", id);
-        List<TaskResponse> tasks = taskService.getTasksByProject(id);
-        return ResponseEntity.ok(tasks);
+        TaskPageResponse page = taskService.getTasksByProject(id, sort, cursor, limit, fields);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(TaskPageResponse.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTasks());
+    }
+
+    /**
+     * Export every task of a project as CSV or NDJSON (Manager only)
+     * Rows are streamed as they are read; the body is gzip-compressed when the client accepts it
+     */
+    @GetMapping("/{id}/tasks/export")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportProjectTasks(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "CSV") TaskExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("Export tasks for project ID: {}", id);
+        boolean gzip = TaskExportService.acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = taskExportService.exportTasks(id, format, gzip);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(TaskExportService.mediaType(format))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(TaskExportService.fileName(id, format))
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 }
@@ -0,0 +1,35 @@
+package com.flowdesk.flowdesk_backend.controller;
+
+import com.flowdesk.flowdesk_backend.dto.response.SearchResponse;
+import com.flowdesk.flowdesk_backend.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Search Controller
+ * Full-text search across tasks, comments and projects
+ */
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * Search tasks, comments and projects
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<SearchResponse> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size) {
+        log.info("Search request: {}", q);
+        return ResponseEntity.ok(searchService.search(q, page, size));
+    }
+}
@@ -3,23 +3,35 @@ package com.flowdesk.flowdesk_backend.controller;
 import com.flowdesk.flowdesk_backend.dto.ml.AssigneeRecommendationResponse;
 import com.flowdesk.flowdesk_backend.dto.ml.RiskPredictionResponse;
 import com.flowdesk.flowdesk_backend.dto.request.*;
+import com.flowdesk.flowdesk_backend.dto.response.BulkTaskImportResponse;
+import com.flowdesk.flowdesk_backend.dto.response.TaskDependencyResponse;
+import com.flowdesk.flowdesk_backend.dto.response.TaskPageResponse;
 import com.flowdesk.flowdesk_backend.dto.response.TaskResponse;
 import com.flowdesk.flowdesk_backend.model.Task;
 import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.TaskSortOrder;
 import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
 import com.flowdesk.flowdesk_backend.service.MLServiceClient;
+import com.flowdesk.flowdesk_backend.service.TaskDependencyService;
+import com.flowdesk.flowdesk_backend.service.TaskImportService;
 import com.flowdesk.flowdesk_backend.service.TaskService;
 
 import com.flowdesk.flowdesk_backend.service.UserService;
+import com.flowdesk.flowdesk_backend.util.ETagUtils;
 import com.flowdesk.flowdesk_backend.util.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +48,8 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskDependencyService taskDependencyService;
     private final MLServiceClient mlServiceClient;
     private final SecurityUtils securityUtils;
     private final UserService userService;
@@ -52,22 +66,37 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(task);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<BulkTaskImportResponse> importTasks(InputStream body) throws IOException {
+        log.info("Bulk task import request");
+        UUID currentUserId = securityUtils.getCurrentUserId();
+        BulkTaskImportResponse result = taskImportService.importTasks(body, currentUserId);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable UUID id) {
+    public ResponseEntity<TaskResponse> getTaskById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Get task by ID: {}", id);
-        TaskResponse task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+        String etag = taskService.getTaskETag(id);
+        if (ETagUtils.isNotModified(ifNoneMatch, etag)) {
+            return ETagUtils.notModified(etag);
+        }
+        return ETagUtils.ok(etag, taskService.getTaskById(id));
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable UUID id,
-            @Valid @RequestBody UpdateTaskRequest request) {
+            @Valid @RequestBody UpdateTaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Update task request for ID: {}", id);
-        TaskResponse task = taskService.updateTask(id, request);
-        return ResponseEntity.ok(task);
+        TaskResponse task = taskService.updateTask(id, request, ifMatch);
+        return ETagUtils.ok(taskService.getTaskETag(id), task);
     }
 
     @PostMapping("/{id}/assign")
@@ -124,28 +153,69 @@ public class TaskController {
 
     @GetMapping("/users/{userId}/tasks")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<TaskResponse>> getUserTasks(@PathVariable UUID userId) {
+    public ResponseEntity<List<TaskResponse>> getUserTasks(
+            @PathVariable UUID userId,
+            @RequestParam(defaultValue = "CREATED_AT") TaskSortOrder sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
         log.info("Get tasks for user ID: {}", userId);
-        List<TaskResponse> tasks = taskService.getTasksByUser(userId);
-        return ResponseEntity.ok(tasks);
+        TaskPageResponse page = taskService.getTasksByUser(userId, sort, cursor, limit, fields);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(TaskPageResponse.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTasks());
+    }
+
+    // -- Dependencies --
+
+    @GetMapping("/{id}/dependencies")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<TaskDependencyResponse>> getTaskDependencies(@PathVariable UUID id) {
+        log.info("Get dependencies for task ID: {}", id);
+        List<TaskDependencyResponse> dependencies = taskDependencyService.getDependencies(id);
+        return ResponseEntity.ok(dependencies);
+    }
+
+    @PostMapping("/{id}/dependencies")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<TaskDependencyResponse> addTaskDependency(
+            @PathVariable UUID id,
+            @Valid @RequestBody AddTaskDependencyRequest request) {
+        log.info("Add dependency to task {} on {}", id, request.getBlockedByTaskId());
+        TaskDependencyResponse dependency = taskDependencyService.addDependency(id, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(dependency);
+    }
+
+    @DeleteMapping("/{id}/dependencies/{blockedByTaskId}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<Void> removeTaskDependency(
+            @PathVariable UUID id,
+            @PathVariable UUID blockedByTaskId) {
+        log.info("Remove dependency of task {} on {}", id, blockedByTaskId);
+        taskDependencyService.removeDependency(id, blockedByTaskId);
+        return ResponseEntity.noContent().build();
     }
 
     // -- ML endpoints --
 
     /**
      * Get ML risk prediction for a Task.
+     * The request thread is released while the ML service answers.
      * @param id Task UUID
      * @return RiskPredictionResponse (risk level, score, probabilities, confidence)
      */
     @GetMapping("/{id}/risk")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<RiskPredictionResponse> getTaskRisk(@PathVariable UUID id) {
+    public Mono<ResponseEntity<RiskPredictionResponse>> getTaskRisk(@PathVariable UUID id) {
         try {
             Task task = taskService.getTaskEntityById(id);
             User assignedUser = task.getAssignedToUser();
-            RiskPredictionResponse mlResponse = mlServiceClient.predictTaskRisk(task, assignedUser);
-            log.info("Risk prediction for task {}: {}", id, mlResponse);
-            return ResponseEntity.ok(mlResponse);
+            return mlServiceClient.predictTaskRisk(task, assignedUser)
+                    .doOnNext(mlResponse -> log.info("Risk prediction for task {}: {}", id, mlResponse))
+                    .map(ResponseEntity::ok);
         } catch (Exception e) {
             log.error("Error getting ML risk prediction for task {}", id, e);
             RiskPredictionResponse fallback = new RiskPredictionResponse();
@@ -153,50 +223,53 @@ public class TaskController {
             fallback.setRiskScore(50);
             fallback.setProbabilities(Collections.emptyMap());
             fallback.setConfidence("MEDIUM");
-            return ResponseEntity.ok(fallback);
+            return Mono.just(ResponseEntity.ok(fallback));
         }
     }
 
     /**
      * Recommend top assignees for a Task using ML.
+     * The request thread is released while the ML service answers.
      * @param id Task UUID
      * @return List of AssigneeRecommendationResponse
      */
     @PostMapping("/{id}/recommend-assignees")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<AssigneeRecommendationResponse>> recommendAssignees(@PathVariable UUID id) {
+    public Mono<ResponseEntity<List<AssigneeRecommendationResponse>>> recommendAssignees(@PathVariable UUID id) {
         try {
             Task task = taskService.getTaskEntityById(id);
             List<User> developers = userService.getAllDeveloperEntities(); // or your team/project-based dev list
-            List<AssigneeRecommendationResponse> recommendations = mlServiceClient.recommendAssignee(task, developers);
-            log.info("ML recommended assignees for task {}: {} found", id, recommendations.size());
-            return ResponseEntity.ok(recommendations);
+            return mlServiceClient.recommendAssignee(task, developers)
+                    .doOnNext(recommendations -> log.info("ML recommended assignees for task {}: {} found",
+                            id, recommendations.size()))
+                    .map(ResponseEntity::ok);
         } catch (Exception e) {
             log.error("Error getting ML assignee recommendations for task {}", id, e);
-            return ResponseEntity.ok(Collections.emptyList());
+            return Mono.just(ResponseEntity.ok(Collections.emptyList()));
         }
     }
 
     /**
      * Get AI-generated summary for a Task using ML.
+     * The request thread is released while the ML service answers.
      * @param id Task UUID
      * @return summary string from ML
      */
     @PostMapping("/{id}/summary")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<String> getTaskSummary(@PathVariable UUID id) {
+    public Mono<ResponseEntity<String>> getTaskSummary(@PathVariable UUID id) {
         try {
             Task task = taskService.getTaskEntityById(id);
-            String summary = mlServiceClient.generateTaskSummary(
-                    task.getTitle(),
-                    task.getDescription(),
-                    (task.getPriority() != null ? task.getPriority().name() : "FEATURE")
-            );
-            log.info("ML summary for task {} generated", id);
-            return ResponseEntity.ok(summary);
+            return mlServiceClient.generateTaskSummary(
+                            task.getTitle(),
+                            task.getDescription(),
+                            (task.getPriority() != null ? task.getPriority().name() : "FEATURE")
+                    )
+                    .doOnNext(summary -> log.info("ML summary for task {} generated", id))
+                    .map(ResponseEntity::ok);
         } catch (Exception e) {
             log.error("Error generating ML summary for task {}", id, e);
-            return ResponseEntity.ok("Summary unavailable");
+            return Mono.just(ResponseEntity.ok("Summary unavailable"));
         }
     }
 
@@ -6,11 +6,14 @@ import com.flowdesk.flowdesk_backend.dto.request.UpdateTeamRequest;
 import com.flowdesk.flowdesk_backend.dto.response.TeamResponse;
 import com.flowdesk.flowdesk_backend.dto.response.TeamWorkloadResponse;
 import com.flowdesk.flowdesk_backend.dto.response.UserResponse;
+import com.flowdesk.flowdesk_backend.dto.response.WorkloadBalanceResponse;
 import com.flowdesk.flowdesk_backend.service.TeamService;
+import com.flowdesk.flowdesk_backend.util.ETagUtils;
 import com.flowdesk.flowdesk_backend.util.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -61,10 +64,16 @@ public class TeamController {
      */
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<TeamResponse> getTeamById(@PathVariable UUID id) {
+    public ResponseEntity<TeamResponse> getTeamById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Get team by ID: {}", id);
+        String etag = teamService.getTeamETag(id);
+        if (ETagUtils.isNotModified(ifNoneMatch, etag)) {
+            return ETagUtils.notModified(etag);
+        }
         TeamResponse team = teamService.getTeamById(id);
-        return ResponseEntity.ok(team);
+        return ETagUtils.ok(etag, team);
     }
 
     /**
@@ -127,4 +136,19 @@ public class TeamController {
         TeamWorkloadResponse workload = teamService.getTeamWorkload(id);
         return ResponseEntity.ok(workload);
     }
+
+    /**
+     * Suggest task reassignments that even out the team's workload (Manager only)
+     * tolerance is the allowed distance from the team's utilization in percentage points
+     */
+    @GetMapping("/{id}/rebalance")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<WorkloadBalanceResponse> getRebalanceSuggestions(
+            @PathVariable UUID id,
+            @RequestParam(required = false) Double tolerance,
+            @RequestParam(required = false) Integer maxMoves) {
+        log.info("Get rebalance suggestions for team ID: {}", id);
+        WorkloadBalanceResponse balance = teamService.getRebalanceSuggestions(id, tolerance, maxMoves);
+        return ResponseEntity.ok(balance);
+    }
 }
@@ -0,0 +1,41 @@
+package com.flowdesk.flowdesk_backend.controller;
+
+import com.flowdesk.flowdesk_backend.dto.response.TypeaheadSuggestionResponse;
+import com.flowdesk.flowdesk_backend.model.enums.TypeaheadType;
+import com.flowdesk.flowdesk_backend.service.TypeaheadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Typeahead Controller
+ * Prefix suggestions for task and user pickers, served from memory
+ */
+@RestController
+@RequestMapping("/api/typeahead")
+@RequiredArgsConstructor
+@Slf4j
+public class TypeaheadController {
+
+    private final TypeaheadService typeaheadService;
+
+    /**
+     * Suggest tasks and users matching the typed prefix
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<TypeaheadSuggestionResponse>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) TypeaheadType type,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) Integer limit) {
+        // Called on every keystroke, so not logged at info level
+        log.debug("Typeahead request: {}", q);
+        return ResponseEntity.ok(typeaheadService.suggest(q, type, projectId, limit));
+    }
+}
@@ -31,12 +31,13 @@ public class UserController {
 
     /**
      * Get all users
+     * fields (comma-separated) limits each user to the listed properties
      */
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
+    public ResponseEntity<List<UserResponse>> getAllUsers(@RequestParam(required = false) String fields) {
         log.info("Get all users request");
-        List<UserResponse> users = userService.getAllDevelopers();
+        List<UserResponse> users = userService.getAllDevelopers(fields);
         return ResponseEntity.ok(users);
     }
 
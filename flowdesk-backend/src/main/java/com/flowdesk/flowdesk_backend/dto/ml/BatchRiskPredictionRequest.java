@@ -0,0 +1,24 @@
+package com.flowdesk.flowdesk_backend.dto.ml;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class BatchRiskPredictionRequest {
+    private List<TaskFeatures> tasks;
+
+    @Data
+    @Builder
+    public static class TaskFeatures {
+        private UUID id;
+
+        // Sent inline, with the same fields as a single predict-risk request
+        @JsonUnwrapped
+        private RiskPredictionRequest features;
+    }
+}
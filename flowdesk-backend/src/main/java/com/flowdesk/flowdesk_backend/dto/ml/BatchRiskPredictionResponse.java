@@ -0,0 +1,22 @@
+package com.flowdesk.flowdesk_backend.dto.ml;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+public class BatchRiskPredictionResponse {
+    private List<Prediction> predictions;
+
+    @Data
+    public static class Prediction {
+        private UUID id;
+        private String riskLevel; // LOW/MEDIUM/HIGH
+        private Double riskScore;
+        private Boolean willMissDeadline;
+        private String confidence;
+        private Map<String, Double> probabilities;
+    }
+}
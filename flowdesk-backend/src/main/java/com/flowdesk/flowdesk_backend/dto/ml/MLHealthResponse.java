@@ -0,0 +1,17 @@
+package com.flowdesk.flowdesk_backend.dto.ml;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+public class MLHealthResponse {
+    private String status;
+    private String service;
+
+    @JsonProperty("models_loaded")
+    private Boolean modelsLoaded;
+
+    // Changes whenever the risk model is retrained
+    @JsonProperty("model_version")
+    private String modelVersion;
+}
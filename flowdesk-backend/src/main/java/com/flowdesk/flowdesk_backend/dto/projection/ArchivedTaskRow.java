@@ -0,0 +1,75 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import com.flowdesk.flowdesk_backend.model.enums.RiskLevel;
+import com.flowdesk.flowdesk_backend.model.enums.TaskPriority;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Archived task with its assignee and creator, as read from tasks_archive
+ */
+public interface ArchivedTaskRow {
+
+    UUID getId();
+
+    UUID getProjectId();
+
+    String getTitle();
+
+    String getDescription();
+
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    Integer getStoryPoints();
+
+    Integer getEstimatedHours();
+
+    Integer getActualHoursLogged();
+
+    LocalDate getStartDate();
+
+    LocalDate getDueDate();
+
+    LocalDateTime getCompletedAt();
+
+    String getPullRequestUrl();
+
+    BigDecimal getRiskScore();
+
+    RiskLevel getRiskLevel();
+
+    Boolean getWillMissDeadlinePrediction();
+
+    String getAiGeneratedSummary();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    UUID getAssigneeId();
+
+    String getAssigneeEmail();
+
+    String getAssigneeFirstName();
+
+    String getAssigneeLastName();
+
+    UserRole getAssigneeRole();
+
+    UUID getCreatorId();
+
+    String getCreatorEmail();
+
+    String getCreatorFirstName();
+
+    String getCreatorLastName();
+
+    UserRole getCreatorRole();
+}
@@ -0,0 +1,30 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import com.flowdesk.flowdesk_backend.model.enums.RiskLevel;
+import com.flowdesk.flowdesk_backend.model.enums.TaskPriority;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Task summary columns together with the id of the assignee
+ */
+public interface AssignedTaskSummary {
+
+    UUID getAssigneeId();
+
+    UUID getId();
+
+    String getTitle();
+
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    Integer getStoryPoints();
+
+    LocalDate getDueDate();
+
+    RiskLevel getRiskLevel();
+}
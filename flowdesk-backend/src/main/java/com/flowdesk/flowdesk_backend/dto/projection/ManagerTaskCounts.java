@@ -0,0 +1,13 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+/**
+ * Aggregated task counters for all active projects of a manager
+ */
+public interface ManagerTaskCounts {
+
+    Long getTotalTasks();
+
+    Long getCompletedTasks();
+
+    Long getHighRiskTasks();
+}
@@ -0,0 +1,25 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+
+import java.util.UUID;
+
+/**
+ * Team member with the workload counters the rebalancer works from
+ */
+public interface MemberWorkload {
+
+    UUID getId();
+
+    String getEmail();
+
+    String getFirstName();
+
+    String getLastName();
+
+    UserRole getRole();
+
+    Integer getCurrentWorkloadPoints();
+
+    Integer getMaxCapacityPoints();
+}
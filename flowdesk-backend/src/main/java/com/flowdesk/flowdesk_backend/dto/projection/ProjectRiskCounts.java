@@ -0,0 +1,13 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+/**
+ * Task counters of one project by predicted risk level
+ */
+public interface ProjectRiskCounts {
+
+    Long getTotalTasks();
+
+    Long getHighRiskTasks();
+
+    Long getMediumRiskTasks();
+}
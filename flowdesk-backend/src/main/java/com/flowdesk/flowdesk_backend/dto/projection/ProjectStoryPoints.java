@@ -0,0 +1,15 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * Story point totals of a project: compacted base plus all pending slot deltas
+ */
+public interface ProjectStoryPoints {
+
+    UUID getProjectId();
+
+    Long getTotalStoryPoints();
+
+    Long getCompletedStoryPoints();
+}
@@ -0,0 +1,19 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns that change whenever a project response changes
+ */
+public interface ProjectVersion {
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getTeamUpdatedAt();
+
+    LocalDateTime getManagerUpdatedAt();
+
+    Long getTotalStoryPoints();
+
+    Long getCompletedStoryPoints();
+}
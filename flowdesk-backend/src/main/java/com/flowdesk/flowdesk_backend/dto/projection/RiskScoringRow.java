@@ -0,0 +1,36 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import com.flowdesk.flowdesk_backend.model.enums.RiskLevel;
+import com.flowdesk.flowdesk_backend.model.enums.TaskPriority;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Risk model features of an open task together with its current prediction
+ */
+public interface RiskScoringRow {
+
+    UUID getId();
+
+    UUID getProjectId();
+
+    UUID getAssignedToUserId();
+
+    Integer getEstimatedHours();
+
+    Integer getStoryPoints();
+
+    TaskPriority getPriority();
+
+    LocalDateTime getCreatedAt();
+
+    Long getSubtaskCount();
+
+    RiskLevel getRiskLevel();
+
+    BigDecimal getRiskScore();
+
+    Boolean getWillMissDeadlinePrediction();
+}
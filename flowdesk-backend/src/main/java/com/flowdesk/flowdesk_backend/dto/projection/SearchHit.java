@@ -0,0 +1,23 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * One ranked full-text search match with its highlighted snippet
+ */
+public interface SearchHit {
+
+    String getType();
+
+    UUID getId();
+
+    UUID getProjectId();
+
+    UUID getTaskId();
+
+    String getTitle();
+
+    String getSnippet();
+
+    Double getRank();
+}
@@ -0,0 +1,13 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * Blocked-by edge as a pair of task ids
+ */
+public interface TaskDependencyEdge {
+
+    UUID getTaskId();
+
+    UUID getBlockedByTaskId();
+}
@@ -0,0 +1,50 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import com.flowdesk.flowdesk_backend.model.enums.RiskLevel;
+import com.flowdesk.flowdesk_backend.model.enums.TaskPriority;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row of a project task export
+ */
+public interface TaskExportRow {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    Integer getStoryPoints();
+
+    Integer getEstimatedHours();
+
+    Integer getActualHoursLogged();
+
+    UUID getAssigneeId();
+
+    String getAssigneeEmail();
+
+    LocalDate getStartDate();
+
+    LocalDate getDueDate();
+
+    LocalDateTime getCompletedAt();
+
+    RiskLevel getRiskLevel();
+
+    BigDecimal getRiskScore();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
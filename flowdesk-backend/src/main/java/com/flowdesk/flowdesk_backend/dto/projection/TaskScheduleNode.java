@@ -0,0 +1,24 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Task columns the critical path engine schedules with
+ */
+public interface TaskScheduleNode {
+
+    UUID getId();
+
+    UUID getProjectId();
+
+    String getTitle();
+
+    TaskStatus getStatus();
+
+    Integer getEstimatedHours();
+
+    LocalDate getDueDate();
+}
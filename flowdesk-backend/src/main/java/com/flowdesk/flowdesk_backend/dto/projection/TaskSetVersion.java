@@ -0,0 +1,13 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Size and latest change of a set of tasks
+ */
+public interface TaskSetVersion {
+
+    Long getTaskCount();
+
+    LocalDateTime getLastUpdatedAt();
+}
@@ -0,0 +1,13 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+
+/**
+ * Number of tasks in a single status
+ */
+public interface TaskStatusCount {
+
+    TaskStatus getStatus();
+
+    Long getCount();
+}
@@ -0,0 +1,15 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * Task columns held by the typeahead index
+ */
+public interface TaskTypeaheadEntry {
+
+    UUID getId();
+
+    String getTitle();
+
+    UUID getProjectId();
+}
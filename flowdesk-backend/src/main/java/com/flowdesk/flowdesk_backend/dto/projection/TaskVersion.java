@@ -0,0 +1,24 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import com.flowdesk.flowdesk_backend.model.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Columns that change whenever a task response changes
+ */
+public interface TaskVersion {
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getAssigneeUpdatedAt();
+
+    LocalDateTime getCreatorUpdatedAt();
+
+    RiskLevel getRiskLevel();
+
+    BigDecimal getRiskScore();
+
+    Boolean getWillMissDeadlinePrediction();
+}
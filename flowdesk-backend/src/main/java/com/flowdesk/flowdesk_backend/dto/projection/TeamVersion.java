@@ -0,0 +1,15 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns that change whenever a team response changes
+ */
+public interface TeamVersion {
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getManagerUpdatedAt();
+
+    Long getMemberCount();
+}
@@ -0,0 +1,21 @@
+package com.flowdesk.flowdesk_backend.dto.projection;
+
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+
+import java.util.UUID;
+
+/**
+ * User columns held by the typeahead index
+ */
+public interface UserTypeaheadEntry {
+
+    UUID getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    UserRole getRole();
+}
@@ -0,0 +1,19 @@
+package com.flowdesk.flowdesk_backend.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AddTaskDependencyRequest {
+
+    @NotNull(message = "Blocking task ID is required")
+    private UUID blockedByTaskId;
+}
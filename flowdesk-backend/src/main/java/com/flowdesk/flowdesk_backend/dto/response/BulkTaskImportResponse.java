@@ -0,0 +1,31 @@
+package com.flowdesk.flowdesk_backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTaskImportResponse {
+
+    private Integer received;
+    private Integer imported;
+    private Integer failed;
+    private List<RowError> errors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowError {
+        // Zero-based position of the row in the submitted array / NDJSON stream
+        private Integer index;
+        private String title;
+        private String message;
+    }
+}
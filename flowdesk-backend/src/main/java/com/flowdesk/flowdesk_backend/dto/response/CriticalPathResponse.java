@@ -0,0 +1,26 @@
+package com.flowdesk.flowdesk_backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CriticalPathResponse {
+
+    private UUID projectId;
+    private LocalDate startDate;
+    private Integer durationDays;
+    private LocalDate projectedEndDate;
+
+    // Tasks with the least slack, in earliest start order
+    private List<UUID> criticalPath;
+    private List<TaskScheduleResponse> tasks;
+}
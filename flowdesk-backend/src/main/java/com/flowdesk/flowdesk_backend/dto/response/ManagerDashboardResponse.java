@@ -1,5 +1,7 @@
 package com.flowdesk.flowdesk_backend.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.flowdesk.flowdesk_backend.dto.common.MemberWorkloadResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,4 +22,13 @@ public class ManagerDashboardResponse {
     private Integer highRiskTasksCount;
     private List<TaskSummaryResponse> upcomingDeadlines;
     private List<MemberWorkloadResponse> teamWorkload;
+
+    // Sections that timed out or failed; their values are null or empty
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<String> unavailableSections;
+
+    @JsonIgnore
+    public boolean isPartial() {
+        return unavailableSections != null && !unavailableSections.isEmpty();
+    }
 }
@@ -0,0 +1,32 @@
+package com.flowdesk.flowdesk_backend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.flowdesk.flowdesk_backend.model.enums.SearchHitType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchHitResponse {
+
+    private SearchHitType type;
+    private UUID id;
+    private UUID projectId;
+
+    // Owning task of a comment hit; the task itself for task hits
+    private UUID taskId;
+
+    private String title;
+
+    // Matched terms are wrapped in <mark></mark>
+    private String snippet;
+
+    private Double rank;
+}
@@ -0,0 +1,21 @@
+package com.flowdesk.flowdesk_backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResponse {
+
+    private String query;
+    private Integer page;
+    private Integer size;
+    private Boolean hasMore;
+    private List<SearchHitResponse> hits;
+}
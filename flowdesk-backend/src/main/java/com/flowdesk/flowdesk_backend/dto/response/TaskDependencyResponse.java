@@ -0,0 +1,25 @@
+package com.flowdesk.flowdesk_backend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskDependencyResponse {
+
+    private UUID taskId;
+    private UUID blockedByTaskId;
+    private String blockedByTitle;
+    private TaskStatus blockedByStatus;
+    private LocalDateTime createdAt;
+}
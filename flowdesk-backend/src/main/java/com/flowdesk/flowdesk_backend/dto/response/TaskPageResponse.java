@@ -0,0 +1,23 @@
+package com.flowdesk.flowdesk_backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskPageResponse {
+
+    // Carries nextCursor on list endpoints that keep a plain array body
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private List<TaskResponse> tasks;
+
+    // Opaque token for the following page; null on the last page
+    private String nextCursor;
+}
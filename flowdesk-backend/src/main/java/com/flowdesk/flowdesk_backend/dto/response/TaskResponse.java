@@ -41,4 +41,5 @@ public class TaskResponse {
     private String aiGeneratedSummary;
     private UserResponse createdBy;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 }
@@ -0,0 +1,36 @@
+package com.flowdesk.flowdesk_backend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Schedule of one task; start and finish values are day offsets from the project start date
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskScheduleResponse {
+
+    private UUID taskId;
+    private String title;
+    private LocalDate dueDate;
+    private Integer durationDays;
+    private Integer earliestStart;
+    private Integer earliestFinish;
+    private Integer latestStart;
+    private Integer latestFinish;
+
+    // Days the task can slip without delaying the project or a due date; negative when already late
+    private Integer slack;
+    private Boolean critical;
+    private List<UUID> blockedByTaskIds;
+}
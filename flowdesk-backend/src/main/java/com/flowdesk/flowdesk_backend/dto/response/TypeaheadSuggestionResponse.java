@@ -0,0 +1,31 @@
+package com.flowdesk.flowdesk_backend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.flowdesk.flowdesk_backend.model.enums.TypeaheadType;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TypeaheadSuggestionResponse {
+
+    private TypeaheadType type;
+    private UUID id;
+
+    // Task title or user full name
+    private String label;
+
+    // User email; not set for tasks
+    private String detail;
+
+    private UUID projectId;
+    private UserRole role;
+}
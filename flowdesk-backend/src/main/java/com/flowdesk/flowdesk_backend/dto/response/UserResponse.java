@@ -1,5 +1,6 @@
 package com.flowdesk.flowdesk_backend.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.flowdesk.flowdesk_backend.model.enums.UserRole;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,6 +15,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class UserResponse {
 
     private UUID id;
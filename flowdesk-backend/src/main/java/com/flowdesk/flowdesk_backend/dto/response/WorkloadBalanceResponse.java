@@ -14,6 +14,18 @@ import java.util.List;
 public class WorkloadBalanceResponse {
 
     private Boolean isBalanced;
+
+    // Standard deviation of member utilization, in percentage points
     private Double imbalanceScore;
+
+    // Team utilization and the band members are brought into, in percent
+    private Double targetUtilization;
+    private Double lowerUtilization;
+    private Double upperUtilization;
+
     private List<ReassignmentSuggestionResponse> suggestions;
+
+    // State once every suggestion is applied
+    private Boolean balancedAfterSuggestions;
+    private Double projectedImbalanceScore;
 }
@@ -0,0 +1,17 @@
+package com.flowdesk.flowdesk_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Published by ProjectService whenever a project is created or modified
+ */
+@Data
+@AllArgsConstructor
+public class ProjectChangedEvent {
+
+    private UUID projectId;
+    private UUID managerId;
+}
@@ -0,0 +1,35 @@
+package com.flowdesk.flowdesk_backend.event;
+
+import com.flowdesk.flowdesk_backend.model.enums.ActivityType;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published by TaskActivityService for every activity to record.
+ * Queued after the surrounding transaction commits and written in batches.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class TaskActivityEvent {
+
+    private UUID taskId;
+    private UUID userId;
+    private ActivityType activityType;
+
+    // Taken when the event is built, so activities keep their order however late they are written
+    @Builder.Default
+    private LocalDateTime occurredAt = LocalDateTime.now();
+
+    // Given for generic activities; otherwise built from the fields below when written
+    private String description;
+
+    private UUID assignedToUserId;
+    private TaskStatus oldStatus;
+    private TaskStatus newStatus;
+}
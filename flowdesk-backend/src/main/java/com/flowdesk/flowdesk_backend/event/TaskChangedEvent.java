@@ -0,0 +1,22 @@
+package com.flowdesk.flowdesk_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published by TaskService whenever a task is created or modified.
+ * Listeners receive it after the surrounding transaction commits.
+ */
+@Data
+@AllArgsConstructor
+public class TaskChangedEvent {
+
+    private UUID taskId;
+    private UUID projectId;
+
+    // Current and previous assignees whose workload or task list may have changed
+    private Set<UUID> assigneeIds;
+}
@@ -0,0 +1,19 @@
+package com.flowdesk.flowdesk_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Published by TaskDependencyService whenever a blocked-by edge is added or removed.
+ * Listeners receive it after the surrounding transaction commits.
+ */
+@Data
+@AllArgsConstructor
+public class TaskDependencyChangedEvent {
+
+    // The blocked task, whose set of blockers changed
+    private UUID taskId;
+    private UUID projectId;
+}
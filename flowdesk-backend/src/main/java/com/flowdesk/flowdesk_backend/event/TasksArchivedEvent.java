@@ -0,0 +1,19 @@
+package com.flowdesk.flowdesk_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published by TaskArchiveService for each batch of completed tasks moved to the archive.
+ * Listeners receive it after the batch's transaction commits.
+ */
+@Data
+@AllArgsConstructor
+public class TasksArchivedEvent {
+
+    private Set<UUID> projectIds;
+    private Set<UUID> taskIds;
+}
@@ -0,0 +1,18 @@
+package com.flowdesk.flowdesk_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published once per committed bulk import batch instead of one TaskChangedEvent per row
+ */
+@Data
+@AllArgsConstructor
+public class TasksImportedEvent {
+
+    private Set<UUID> projectIds;
+    private Set<UUID> assigneeIds;
+}
@@ -0,0 +1,19 @@
+package com.flowdesk.flowdesk_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published by TaskRiskScoringService once the projects of newly scored tasks have their risk recomputed.
+ * Listeners receive it after that transaction commits.
+ */
+@Data
+@AllArgsConstructor
+public class TasksRiskScoredEvent {
+
+    private Set<UUID> projectIds;
+    private Set<UUID> assigneeIds;
+}
@@ -0,0 +1,17 @@
+package com.flowdesk.flowdesk_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Published by TeamService whenever a member joins or leaves a team
+ */
+@Data
+@AllArgsConstructor
+public class TeamMembershipChangedEvent {
+
+    private UUID teamId;
+    private UUID userId;
+}
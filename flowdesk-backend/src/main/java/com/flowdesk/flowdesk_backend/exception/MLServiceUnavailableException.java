@@ -0,0 +1,14 @@
+package com.flowdesk.flowdesk_backend.exception;
+
+/**
+ * Exception thrown by the ML WebClient when a call is not attempted:
+ * the circuit breaker is open or the bulkhead is full.
+ * Callers answer with their fallback; it never reaches GlobalExceptionHandler.
+ */
+public class MLServiceUnavailableException extends RuntimeException {
+
+    public MLServiceUnavailableException(String message) {
+        // Thrown on every rejected call; a stack trace would cost more than the fallback
+        super(message, null, false, false);
+    }
+}
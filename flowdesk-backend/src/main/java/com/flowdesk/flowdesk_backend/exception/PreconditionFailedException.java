@@ -0,0 +1,12 @@
+package com.flowdesk.flowdesk_backend.exception;
+
+/**
+ * Exception thrown when a conditional request's precondition does not hold
+ * HTTP Status: 412 PRECONDITION FAILED
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,40 @@
+package com.flowdesk.flowdesk_backend.model;
+
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Materialized dashboard of a single user.
+ * Holds the serialized manager or developer dashboard so that reads do not walk projects and tasks.
+ */
+@Entity
+@Table(name = "dashboard_read_models")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardReadModel {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @NotNull(message = "Role cannot be null")
+    private UserRole role;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    @NotNull(message = "Payload cannot be null")
+    private String payload;
+
+    @Column(name = "refreshed_at", nullable = false)
+    @NotNull(message = "Refresh time cannot be null")
+    private LocalDateTime refreshedAt;
+}
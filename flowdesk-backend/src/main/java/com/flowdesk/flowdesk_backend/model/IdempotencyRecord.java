@@ -0,0 +1,73 @@
+package com.flowdesk.flowdesk_backend.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outcome of a mutating request sent with an Idempotency-Key header.
+ * Claimed before the request runs; the response is filled in once it completes
+ * and replayed for retries of the same key until the record expires.
+ */
+@Entity
+@Table(name = "idempotency_keys", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_idempotency_key", columnNames = {"owner", "idempotency_key"})
+}, indexes = {
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    // Authenticated user the key belongs to; keys of different users never collide
+    @Column(nullable = false)
+    @NotNull(message = "Owner cannot be null")
+    private String owner;
+
+    @Column(name = "idempotency_key", nullable = false)
+    @NotNull(message = "Idempotency key cannot be null")
+    private String idempotencyKey;
+
+    // SHA-256 of the method, path and body; a reused key with a different request is rejected
+    @Column(name = "request_fingerprint", nullable = false, length = 64)
+    @NotNull(message = "Request fingerprint cannot be null")
+    private String requestFingerprint;
+
+    // Null while the original request is still running
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_content_type")
+    private String responseContentType;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Start of the current owner's lease; an unfinished claim older than the claim timeout can be taken over
+    @Column(name = "claimed_at", nullable = false)
+    @NotNull(message = "Claim time cannot be null")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    @NotNull(message = "Expiry cannot be null")
+    private LocalDateTime expiresAt;
+
+    public boolean isCompleted() {
+        return responseStatus != null;
+    }
+}
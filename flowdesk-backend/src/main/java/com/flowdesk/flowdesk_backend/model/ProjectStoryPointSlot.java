@@ -0,0 +1,44 @@
+package com.flowdesk.flowdesk_backend.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * One stripe of a project's story point counters.
+ * Writers add to a random slot instead of the projects row; the project's own columns
+ * hold the compacted base and the current value is the base plus the sum of its slots.
+ */
+@Entity
+@Table(name = "project_story_point_slots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_project_slot", columnNames = {"project_id", "slot"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class ProjectStoryPointSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    @NotNull(message = "Project cannot be null")
+    private Project project;
+
+    @Column(nullable = false)
+    private Integer slot;
+
+    @Column(name = "total_story_points", nullable = false)
+    private Integer totalStoryPoints = 0;
+
+    @Column(name = "completed_story_points", nullable = false)
+    private Integer completedStoryPoints = 0;
+}
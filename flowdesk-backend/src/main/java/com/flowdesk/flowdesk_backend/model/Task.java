@@ -23,11 +23,20 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_created", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_tasks_project_due", columnList = "project_id, due_date, id"),
+        @Index(name = "idx_tasks_assignee_created", columnList = "assigned_to_user_id, created_at, id"),
+        @Index(name = "idx_tasks_assignee_due", columnList = "assigned_to_user_id, due_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@NamedEntityGraph(name = "Task.withUsers", attributeNodes = {
+        @NamedAttributeNode("assignedToUser"),
+        @NamedAttributeNode("createdByUser")
+})
 public class Task {
 
     @Id
@@ -7,7 +7,6 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -43,7 +42,8 @@ public class TaskActivity {
     @NotNull(message = "Description cannot be null")
     private String description;
 
-    @CreationTimestamp
+    // When the activity happened, set by the writer from the event rather than at insert time
+    @NotNull(message = "Created at cannot be null")
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 }
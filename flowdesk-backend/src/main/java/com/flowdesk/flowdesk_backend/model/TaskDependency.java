@@ -0,0 +1,47 @@
+package com.flowdesk.flowdesk_backend.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Blocked-by edge between two tasks of the same project.
+ * The task cannot start before the blocking task has finished.
+ */
+@Entity
+@Table(name = "task_dependencies", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_dependency", columnNames = {"task_id", "blocked_by_task_id"})
+}, indexes = {
+        @Index(name = "idx_task_dependencies_blocked_by", columnList = "blocked_by_task_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class TaskDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    @NotNull(message = "Task cannot be null")
+    private Task task;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blocked_by_task_id", nullable = false)
+    @NotNull(message = "Blocking task cannot be null")
+    private Task blockedBy;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
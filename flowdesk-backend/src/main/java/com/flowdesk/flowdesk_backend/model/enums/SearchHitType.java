@@ -0,0 +1,7 @@
+package com.flowdesk.flowdesk_backend.model.enums;
+
+public enum SearchHitType {
+    TASK,
+    COMMENT,
+    PROJECT
+}
@@ -0,0 +1,6 @@
+package com.flowdesk.flowdesk_backend.model.enums;
+
+public enum TypeaheadType {
+    TASK,
+    USER
+}
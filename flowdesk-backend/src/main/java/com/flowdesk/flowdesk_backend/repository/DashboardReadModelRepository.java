@@ -0,0 +1,33 @@
+package com.flowdesk.flowdesk_backend.repository;
+
+import com.flowdesk.flowdesk_backend.model.DashboardReadModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface DashboardReadModelRepository extends JpaRepository<DashboardReadModel, UUID> {
+
+    // Writes only land on rows built before builtAt, so a slower build never overwrites a newer one
+
+    @Modifying
+    @Query("UPDATE DashboardReadModel r SET r.payload = :payload, r.refreshedAt = :builtAt " +
+            "WHERE r.userId = :userId AND r.refreshedAt < :builtAt")
+    int updateIfOlder(@Param("userId") UUID userId, @Param("payload") String payload,
+                      @Param("builtAt") LocalDateTime builtAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_read_models (user_id, role, payload, refreshed_at) " +
+            "VALUES (:userId, :role, :payload, :builtAt) " +
+            "ON CONFLICT (user_id) DO UPDATE SET role = EXCLUDED.role, payload = EXCLUDED.payload, " +
+            "refreshed_at = EXCLUDED.refreshed_at " +
+            "WHERE dashboard_read_models.refreshed_at < EXCLUDED.refreshed_at",
+            nativeQuery = true)
+    int upsertIfOlder(@Param("userId") UUID userId, @Param("role") String role, @Param("payload") String payload,
+                      @Param("builtAt") LocalDateTime builtAt);
+}
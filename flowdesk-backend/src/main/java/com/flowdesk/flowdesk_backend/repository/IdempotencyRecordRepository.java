@@ -0,0 +1,40 @@
+package com.flowdesk.flowdesk_backend.repository;
+
+import com.flowdesk.flowdesk_backend.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, UUID> {
+
+    Optional<IdempotencyRecord> findByOwnerAndIdempotencyKey(String owner, String idempotencyKey);
+
+    // Completing and releasing are conditional on the lease, so an owner whose claim was taken over changes nothing
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.responseStatus = :status, r.responseContentType = :contentType, " +
+            "r.responseBody = :body WHERE r.id = :id AND r.claimedAt = :claimedAt")
+    int complete(@Param("id") UUID id, @Param("claimedAt") LocalDateTime claimedAt, @Param("status") int status,
+                 @Param("contentType") String contentType, @Param("body") String body);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.claimedAt = :claimedAt")
+    int release(@Param("id") UUID id, @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.claimedAt = :claimedAt " +
+            "WHERE r.id = :id AND r.responseStatus IS NULL AND r.claimedAt < :staleBefore")
+    int takeOver(@Param("id") UUID id, @Param("claimedAt") LocalDateTime claimedAt,
+                 @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
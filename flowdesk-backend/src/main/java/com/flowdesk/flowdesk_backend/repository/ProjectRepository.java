@@ -1,11 +1,19 @@
 package com.flowdesk.flowdesk_backend.repository;
 
+import com.flowdesk.flowdesk_backend.dto.projection.ProjectVersion;
 import com.flowdesk.flowdesk_backend.model.Project;
 import com.flowdesk.flowdesk_backend.model.enums.ProjectStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -13,9 +21,54 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     List<Project> findByTeamId(UUID teamId);
 
+    // Serializes dependency changes within a project so concurrent inserts cannot close a cycle together
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> findByIdForUpdate(@Param("id") UUID id);
+
     List<Project> findByManagerId(UUID managerId);
 
     List<Project> findByStatus(ProjectStatus status);
 
     List<Project> findByManagerIdAndStatus(UUID managerId, ProjectStatus status);
+
+    long countByManagerIdAndStatus(UUID managerId, ProjectStatus status);
+
+    @Query("SELECT p.manager.id FROM Project p WHERE p.id = :projectId")
+    Optional<UUID> findManagerIdById(@Param("projectId") UUID projectId);
+
+    @Query("SELECT DISTINCT p.manager.id FROM Project p WHERE p.id IN :projectIds")
+    List<UUID> findManagerIdsByIds(@Param("projectIds") Collection<UUID> projectIds);
+
+    @Query("SELECT DISTINCT p.manager.id FROM Project p WHERE p.team.id = :teamId")
+    List<UUID> findManagerIdsByTeamId(@Param("teamId") UUID teamId);
+
+    // Managers whose team workload includes any of the given users
+    @Query("SELECT DISTINCT p.manager.id FROM Project p " +
+            "WHERE p.team.id IN (SELECT tm.team.id FROM TeamMember tm WHERE tm.user.id IN :userIds)")
+    List<UUID> findManagerIdsByTeamMemberIds(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    // Conditional request version; story points include the pending slot values
+    @Query("SELECT p.updatedAt AS updatedAt, t.updatedAt AS teamUpdatedAt, m.updatedAt AS managerUpdatedAt, " +
+            "p.totalStoryPoints + COALESCE(SUM(s.totalStoryPoints), 0) AS totalStoryPoints, " +
+            "p.completedStoryPoints + COALESCE(SUM(s.completedStoryPoints), 0) AS completedStoryPoints " +
+            "FROM Project p JOIN p.team t JOIN p.manager m " +
+            "LEFT JOIN ProjectStoryPointSlot s ON s.project = p " +
+            "WHERE p.id = :projectId " +
+            "GROUP BY p.id, p.updatedAt, t.updatedAt, m.updatedAt, p.totalStoryPoints, p.completedStoryPoints")
+    Optional<ProjectVersion> findVersionById(@Param("projectId") UUID projectId);
+
+    // Atomic counter updates; do not load the project
+    @Modifying
+    @Query("UPDATE Project p SET p.totalStoryPoints = p.totalStoryPoints + :delta, p.updatedAt = LOCAL DATETIME " +
+            "WHERE p.id = :projectId")
+    int addTotalStoryPoints(@Param("projectId") UUID projectId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.completedStoryPoints = p.completedStoryPoints + :delta, p.updatedAt = LOCAL DATETIME " +
+            "WHERE p.id = :projectId")
+    int addCompletedStoryPoints(@Param("projectId") UUID projectId, @Param("delta") int delta);
 }
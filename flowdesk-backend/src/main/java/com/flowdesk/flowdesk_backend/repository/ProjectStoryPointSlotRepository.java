@@ -0,0 +1,50 @@
+package com.flowdesk.flowdesk_backend.repository;
+
+import com.flowdesk.flowdesk_backend.dto.projection.ProjectStoryPoints;
+import com.flowdesk.flowdesk_backend.model.ProjectStoryPointSlot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectStoryPointSlotRepository extends JpaRepository<ProjectStoryPointSlot, UUID> {
+
+    // Atomic slot updates; return 0 when the project has no such slot
+
+    // Both columns in one statement, so a change to both locks a single slot row
+    @Modifying
+    @Query("UPDATE ProjectStoryPointSlot s SET s.totalStoryPoints = s.totalStoryPoints + :totalDelta, " +
+            "s.completedStoryPoints = s.completedStoryPoints + :completedDelta " +
+            "WHERE s.project.id = :projectId AND s.slot = :slot")
+    int addStoryPoints(@Param("projectId") UUID projectId, @Param("slot") int slot,
+                       @Param("totalDelta") int totalDelta, @Param("completedDelta") int completedDelta);
+
+    // Base and slots are read in one statement so a concurrent compaction is never half-visible
+    @Query("SELECT p.id AS projectId, " +
+            "p.totalStoryPoints + COALESCE(SUM(s.totalStoryPoints), 0) AS totalStoryPoints, " +
+            "p.completedStoryPoints + COALESCE(SUM(s.completedStoryPoints), 0) AS completedStoryPoints " +
+            "FROM Project p LEFT JOIN ProjectStoryPointSlot s ON s.project = p " +
+            "WHERE p.id IN :projectIds " +
+            "GROUP BY p.id, p.totalStoryPoints, p.completedStoryPoints")
+    List<ProjectStoryPoints> sumByProjectIds(@Param("projectIds") Collection<UUID> projectIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProjectStoryPointSlot s WHERE s.project.id = :projectId ORDER BY s.slot")
+    List<ProjectStoryPointSlot> lockByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT DISTINCT s.project.id FROM ProjectStoryPointSlot s " +
+            "WHERE s.totalStoryPoints <> 0 OR s.completedStoryPoints <> 0")
+    List<UUID> findProjectIdsWithPendingPoints();
+
+    @Query("SELECT p.id FROM Project p " +
+            "WHERE NOT EXISTS (SELECT 1 FROM ProjectStoryPointSlot s WHERE s.project = p)")
+    List<UUID> findProjectIdsWithoutSlots();
+}
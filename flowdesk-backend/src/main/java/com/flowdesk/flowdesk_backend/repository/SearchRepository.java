@@ -0,0 +1,53 @@
+package com.flowdesk.flowdesk_backend.repository;
+
+import com.flowdesk.flowdesk_backend.dto.projection.SearchHit;
+import com.flowdesk.flowdesk_backend.model.Task;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full-text search over the generated search_vector columns (see db/search-schema.sql).
+ * Matches are ranked first and snippets are built only for the requested page.
+ */
+@Repository
+public interface SearchRepository extends org.springframework.data.repository.Repository<Task, UUID> {
+
+    @Query(value = "WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query), " +
+            "hits AS (" +
+            "  SELECT 'TASK' AS type, t.id AS id, ts_rank(t.search_vector, q.query) AS rank " +
+            "  FROM tasks t, q WHERE t.search_vector @@ q.query " +
+            "  UNION ALL " +
+            "  SELECT 'COMMENT', c.id, ts_rank(c.search_vector, q.query) " +
+            "  FROM comments c, q WHERE c.search_vector @@ q.query " +
+            "  UNION ALL " +
+            "  SELECT 'PROJECT', p.id, ts_rank(p.search_vector, q.query) " +
+            "  FROM projects p, q WHERE p.search_vector @@ q.query" +
+            "), " +
+            "page AS (SELECT type, id, rank FROM hits ORDER BY rank DESC, id LIMIT :limit OFFSET :offset) " +
+            "SELECT page.type AS type, page.id AS id, " +
+            "  COALESCE(t.project_id, ct.project_id, pr.id) AS \"projectId\", " +
+            "  COALESCE(t.id, ct.id) AS \"taskId\", " +
+            "  COALESCE(t.title, ct.title, pr.name) AS title, " +
+            "  ts_headline('english', " +
+            "    CASE page.type " +
+            "      WHEN 'TASK' THEN concat_ws(' ', t.title, t.description) " +
+            "      WHEN 'COMMENT' THEN c.content " +
+            "      ELSE concat_ws(' ', pr.name, pr.description) " +
+            "    END, q.query, :headlineOptions) AS snippet, " +
+            "  CAST(page.rank AS double precision) AS rank " +
+            "FROM page CROSS JOIN q " +
+            "LEFT JOIN tasks t ON page.type = 'TASK' AND t.id = page.id " +
+            "LEFT JOIN comments c ON page.type = 'COMMENT' AND c.id = page.id " +
+            "LEFT JOIN tasks ct ON ct.id = c.task_id " +
+            "LEFT JOIN projects pr ON page.type = 'PROJECT' AND pr.id = page.id " +
+            "ORDER BY page.rank DESC, page.id",
+            nativeQuery = true)
+    List<SearchHit> search(@Param("query") String query,
+                           @Param("headlineOptions") String headlineOptions,
+                           @Param("limit") int limit,
+                           @Param("offset") int offset);
+}
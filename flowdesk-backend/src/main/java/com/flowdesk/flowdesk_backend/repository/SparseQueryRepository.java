@@ -0,0 +1,168 @@
+package com.flowdesk.flowdesk_backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse fieldset queries
+ * Selects only the requested attribute paths of an entity as tuples instead of loading
+ * entities. Paths through an association ("assignedToUser.firstName") left-join the
+ * association once; "association.id" reads the foreign key without a join.
+ * Tuple elements are aliased with {@link #alias(String)}.
+ */
+@Repository
+public class SparseQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Alias of an attribute path in the returned tuples
+     */
+    public static String alias(String path) {
+        return path.replace('.', '_');
+    }
+
+    /**
+     * Select the given paths of every entity matching the filter
+     */
+    public <E> List<Tuple> findAll(Class<E> entityType, Collection<String> paths, Specification<E> filter, Sort sort) {
+        return createQuery(entityType, paths, filter, null, sort).getResultList();
+    }
+
+    /**
+     * Keyset scroll over the given paths, the counterpart of a derived Window query
+     * The sort properties are selected too and must end with a unique property
+     */
+    public <E> Window<Tuple> scroll(Class<E> entityType, Collection<String> paths, Specification<E> filter,
+                                    ScrollPosition position, Sort sort, Limit limit) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.scrollsBackward()) {
+            throw new IllegalArgumentException("Only forward keyset scrolling is supported");
+        }
+
+        Set<String> selected = new LinkedHashSet<>(paths);
+        sort.forEach(order -> selected.add(order.getProperty()));
+
+        // One extra row tells whether another window follows
+        List<Tuple> rows = createQuery(entityType, selected, filter, keyset, sort)
+                .setMaxResults(limit.max() + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > limit.max();
+        List<Tuple> content = hasNext ? rows.subList(0, limit.max()) : rows;
+
+        return Window.from(content, index -> positionOf(content.get(index), sort), hasNext);
+    }
+
+    // Helper methods
+
+    private <E> TypedQuery<Tuple> createQuery(Class<E> entityType, Collection<String> paths, Specification<E> filter,
+                                              KeysetScrollPosition after, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entityType);
+        Map<String, From<?, ?>> joins = new HashMap<>();
+
+        List<Selection<?>> selections = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            selections.add(resolve(root, joins, path).alias(alias(path)));
+        }
+        query.multiselect(selections);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter != null) {
+            Predicate predicate = filter.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (after != null && !after.getKeys().isEmpty()) {
+            predicates.add(keysetPredicate(cb, root, joins, after, sort));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<?> path = resolve(root, joins, order.getProperty());
+            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+        }
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query);
+    }
+
+    /**
+     * Rows after the position: (a > x) OR (a = x AND b > y) OR ... in sort order
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate keysetPredicate(CriteriaBuilder cb, Root<?> root, Map<String, From<?, ?>> joins,
+                                      KeysetScrollPosition after, Sort sort) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalPrefix = new ArrayList<>();
+
+        for (Sort.Order order : sort) {
+            Path path = resolve(root, joins, order.getProperty());
+            Comparable key = (Comparable) after.getKeys().get(order.getProperty());
+
+            List<Predicate> alternative = new ArrayList<>(equalPrefix);
+            alternative.add(order.isAscending() ? cb.greaterThan(path, key) : cb.lessThan(path, key));
+            alternatives.add(cb.and(alternative.toArray(Predicate[]::new)));
+
+            equalPrefix.add(cb.equal(path, key));
+        }
+        return cb.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    private ScrollPosition positionOf(Tuple row, Sort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        sort.forEach(order -> keys.put(order.getProperty(), row.get(alias(order.getProperty()))));
+        return ScrollPosition.forward(keys);
+    }
+
+    private Path<?> resolve(Root<?> root, Map<String, From<?, ?>> joins, String path) {
+        String[] segments = path.split("\\.");
+        if (segments.length == 1) {
+            return root.get(path);
+        }
+        if (segments.length == 2 && segments[1].equals("id")) {
+            // Foreign key column; no join needed
+            return root.get(segments[0]).get("id");
+        }
+
+        From<?, ?> from = root;
+        StringBuilder association = new StringBuilder();
+        for (int i = 0; i < segments.length - 1; i++) {
+            association.append(i == 0 ? "" : ".").append(segments[i]);
+            From<?, ?> parent = from;
+            String attribute = segments[i];
+            from = joins.computeIfAbsent(association.toString(), key -> parent.join(attribute, JoinType.LEFT));
+        }
+        return from.get(segments[segments.length - 1]);
+    }
+}
@@ -0,0 +1,120 @@
+package com.flowdesk.flowdesk_backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Moves completed tasks into the partitioned tasks_archive table
+ * Native SQL throughout: the archive is not mapped, and each step works on a whole batch
+ * of ids in one statement. Must run inside a transaction.
+ */
+@Repository
+public class TaskArchiveRepository {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    // Live task columns copied as they are; children are folded into JSON arrays
+    private static final String TASK_COLUMNS = "id, project_id, title, description, status, priority, story_points, " +
+            "assigned_to_user_id, estimated_hours, actual_hours_logged, start_date, due_date, completed_at, " +
+            "suggested_branch_name, pull_request_url, submitted_at, risk_score, risk_level, " +
+            "will_miss_deadline_prediction, ai_generated_summary, summary_generated_at, created_by_user_id, " +
+            "created_at, updated_at";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Completion months of the given tasks
+     */
+    @SuppressWarnings("unchecked")
+    public List<YearMonth> findCompletionMonths(Collection<UUID> taskIds) {
+        List<String> months = entityManager.createNativeQuery(
+                        "SELECT DISTINCT to_char(completed_at, 'YYYY-MM') FROM tasks WHERE id IN (:ids)")
+                .setParameter("ids", taskIds)
+                .getResultList();
+        return months.stream().map(YearMonth::parse).collect(Collectors.toList());
+    }
+
+    /**
+     * Create the archive partition of a completion month unless it exists
+     */
+    public void createPartition(YearMonth month) {
+        // Bounds come from a YearMonth, never from input
+        entityManager.createNativeQuery(
+                        "CREATE TABLE IF NOT EXISTS tasks_archive_" + month.format(PARTITION_SUFFIX) +
+                                " PARTITION OF tasks_archive FOR VALUES FROM ('" + month.atDay(1) +
+                                "') TO ('" + month.plusMonths(1).atDay(1) + "')")
+                .executeUpdate();
+    }
+
+    /**
+     * Lock the oldest archivable tasks; rows locked by a concurrent mover or a request are skipped
+     */
+    @SuppressWarnings("unchecked")
+    public List<UUID> lockArchivableTaskIds(LocalDateTime completedBefore, int limit) {
+        return entityManager.createNativeQuery(
+                        "SELECT id FROM tasks WHERE status = 'DONE' AND completed_at < :before " +
+                                "ORDER BY completed_at LIMIT :limit FOR UPDATE SKIP LOCKED", UUID.class)
+                .setParameter("before", completedBefore)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<UUID> findProjectIds(Collection<UUID> taskIds) {
+        return entityManager.createNativeQuery(
+                        "SELECT DISTINCT project_id FROM tasks WHERE id IN (:ids)", UUID.class)
+                .setParameter("ids", taskIds)
+                .getResultList();
+    }
+
+    /**
+     * Copy the tasks with their comments, subtasks and activities into the archive, then delete
+     * them from the live tables; dependencies on them are dropped and notifications unlinked
+     */
+    public int moveToArchive(Collection<UUID> taskIds) {
+        int archived = entityManager.createNativeQuery(
+                        "INSERT INTO tasks_archive (" + TASK_COLUMNS + ", comments, subtasks, activities) " +
+                                "SELECT " + qualified("t", TASK_COLUMNS) + ", " +
+                                "COALESCE((SELECT jsonb_agg(to_jsonb(c) - 'search_vector' ORDER BY c.created_at) " +
+                                "FROM comments c WHERE c.task_id = t.id), CAST('[]' AS jsonb)), " +
+                                "COALESCE((SELECT jsonb_agg(to_jsonb(s) ORDER BY s.id) " +
+                                "FROM subtasks s WHERE s.task_id = t.id), CAST('[]' AS jsonb)), " +
+                                "COALESCE((SELECT jsonb_agg(to_jsonb(a) ORDER BY a.created_at) " +
+                                "FROM task_activities a WHERE a.task_id = t.id), CAST('[]' AS jsonb)) " +
+                                "FROM tasks t WHERE t.id IN (:ids)")
+                .setParameter("ids", taskIds)
+                .executeUpdate();
+
+        for (String statement : List.of(
+                "DELETE FROM comments WHERE task_id IN (:ids)",
+                "DELETE FROM subtasks WHERE task_id IN (:ids)",
+                "DELETE FROM task_activities WHERE task_id IN (:ids)",
+                "DELETE FROM task_dependencies WHERE task_id IN (:ids) OR blocked_by_task_id IN (:ids)",
+                "UPDATE notifications SET task_id = NULL WHERE task_id IN (:ids)",
+                "DELETE FROM tasks WHERE id IN (:ids)")) {
+            entityManager.createNativeQuery(statement)
+                    .setParameter("ids", taskIds)
+                    .executeUpdate();
+        }
+        return archived;
+    }
+
+    // Helper methods
+
+    private static String qualified(String alias, String columns) {
+        return Arrays.stream(columns.split(", "))
+                .map(column -> alias + "." + column)
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,40 @@
+package com.flowdesk.flowdesk_backend.repository;
+
+import com.flowdesk.flowdesk_backend.dto.projection.TaskDependencyEdge;
+import com.flowdesk.flowdesk_backend.model.TaskDependency;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, UUID> {
+
+    @EntityGraph(attributePaths = "blockedBy")
+    List<TaskDependency> findByTaskId(UUID taskId);
+
+    Optional<TaskDependency> findByTaskIdAndBlockedById(UUID taskId, UUID blockedById);
+
+    boolean existsByTaskIdAndBlockedById(UUID taskId, UUID blockedById);
+
+    @Query("SELECT d.blockedBy.id FROM TaskDependency d WHERE d.task.id = :taskId")
+    List<UUID> findBlockedByIdsByTaskId(@Param("taskId") UUID taskId);
+
+    @Query("SELECT d.task.id AS taskId, d.blockedBy.id AS blockedByTaskId FROM TaskDependency d " +
+            "WHERE d.task.project.id = :projectId")
+    List<TaskDependencyEdge> findEdgesByProjectId(@Param("projectId") UUID projectId);
+
+    // Walks only the blockers upstream of the task, not the whole project graph
+    @Query(value = "WITH RECURSIVE blockers(id) AS (" +
+            "SELECT d.blocked_by_task_id FROM task_dependencies d WHERE d.task_id = :taskId " +
+            "UNION " +
+            "SELECT d.blocked_by_task_id FROM task_dependencies d JOIN blockers b ON d.task_id = b.id) " +
+            "SELECT CASE WHEN EXISTS (SELECT 1 FROM blockers WHERE id = :blockerId) THEN TRUE ELSE FALSE END",
+            nativeQuery = true)
+    boolean isTransitivelyBlockedBy(@Param("taskId") UUID taskId, @Param("blockerId") UUID blockerId);
+}
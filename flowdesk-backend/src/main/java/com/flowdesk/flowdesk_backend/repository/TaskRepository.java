@@ -1,18 +1,57 @@
 package com.flowdesk.flowdesk_backend.repository;
 
+import com.flowdesk.flowdesk_backend.dto.projection.ArchivedTaskRow;
+import com.flowdesk.flowdesk_backend.dto.projection.AssignedTaskSummary;
+import com.flowdesk.flowdesk_backend.dto.projection.ManagerTaskCounts;
+import com.flowdesk.flowdesk_backend.dto.projection.ProjectRiskCounts;
+import com.flowdesk.flowdesk_backend.dto.projection.RiskScoringRow;
+import com.flowdesk.flowdesk_backend.dto.projection.TaskExportRow;
+import com.flowdesk.flowdesk_backend.dto.projection.TaskScheduleNode;
+import com.flowdesk.flowdesk_backend.dto.projection.TaskSetVersion;
+import com.flowdesk.flowdesk_backend.dto.projection.TaskStatusCount;
+import com.flowdesk.flowdesk_backend.dto.projection.TaskTypeaheadEntry;
+import com.flowdesk.flowdesk_backend.dto.projection.TaskVersion;
+import com.flowdesk.flowdesk_backend.dto.response.TaskSummaryResponse;
 import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.enums.ProjectStatus;
 import com.flowdesk.flowdesk_backend.model.enums.RiskLevel;
 import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, UUID> {
 
+    // Fetches assignee and creator with the task for TaskResponse mapping
+    @EntityGraph("Task.withUsers")
+    Optional<Task> findWithUsersById(UUID id);
+
+    // Serializes writers of one task so the workload / story point deltas derived from it stay consistent
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id = :id")
+    Optional<Task> findByIdForUpdate(@Param("id") UUID id);
+
     List<Task> findByProjectId(UUID projectId);
 
     List<Task> findByAssignedToUserId(UUID userId);
@@ -27,10 +66,204 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 
     List<Task> findByDueDateBetween(LocalDate startDate, LocalDate endDate);
 
+    @EntityGraph("Task.withUsers")
     List<Task> findByAssignedToUserIdAndDueDateBetween(UUID userId, LocalDate start, LocalDate end);
 
     long countByProjectId(UUID projectId);
 
+    // Keyset-paginated listings - cost proportional to the page, not to its depth
+
+    @EntityGraph("Task.withUsers")
+    Window<Task> findByProjectId(UUID projectId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph("Task.withUsers")
+    Window<Task> findByProjectIdAndDueDateIsNotNull(UUID projectId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph("Task.withUsers")
+    Window<Task> findByProjectIdAndDueDateIsNull(UUID projectId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph("Task.withUsers")
+    Window<Task> findByAssignedToUserId(UUID userId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph("Task.withUsers")
+    Window<Task> findByAssignedToUserIdAndDueDateIsNotNull(UUID userId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph("Task.withUsers")
+    Window<Task> findByAssignedToUserIdAndDueDateIsNull(UUID userId, ScrollPosition position, Sort sort, Limit limit);
+
     long countByProjectIdAndStatus(UUID projectId, TaskStatus status);
-}
 
+    // Manager dashboard aggregations - one statement each, independent of project count
+
+    @Query("SELECT COUNT(t) AS totalTasks, " +
+            "SUM(CASE WHEN t.status = :doneStatus THEN 1 ELSE 0 END) AS completedTasks, " +
+            "SUM(CASE WHEN t.riskLevel = :riskLevel THEN 1 ELSE 0 END) AS highRiskTasks " +
+            "FROM Task t " +
+            "WHERE t.project.manager.id = :managerId AND t.project.status = :projectStatus")
+    ManagerTaskCounts countTasksForManager(@Param("managerId") UUID managerId,
+                                           @Param("projectStatus") ProjectStatus projectStatus,
+                                           @Param("doneStatus") TaskStatus doneStatus,
+                                           @Param("riskLevel") RiskLevel riskLevel);
+
+    @Query("SELECT new com.flowdesk.flowdesk_backend.dto.response.TaskSummaryResponse(" +
+            "t.id, t.title, t.status, t.priority, t.storyPoints, t.dueDate, t.riskLevel) " +
+            "FROM Task t " +
+            "WHERE t.project.manager.id = :managerId AND t.project.status = :projectStatus " +
+            "AND t.status <> :doneStatus AND t.dueDate BETWEEN :start AND :end " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskSummaryResponse> findUpcomingDeadlinesForManager(@Param("managerId") UUID managerId,
+                                                              @Param("projectStatus") ProjectStatus projectStatus,
+                                                              @Param("doneStatus") TaskStatus doneStatus,
+                                                              @Param("start") LocalDate start,
+                                                              @Param("end") LocalDate end,
+                                                              Pageable pageable);
+
+    @Query("SELECT t.assignedToUser.id AS assigneeId, t.id AS id, t.title AS title, t.status AS status, " +
+            "t.priority AS priority, t.storyPoints AS storyPoints, t.dueDate AS dueDate, t.riskLevel AS riskLevel " +
+            "FROM Task t " +
+            "WHERE t.assignedToUser.id IN :userIds AND t.status <> :doneStatus")
+    List<AssignedTaskSummary> findTaskSummariesByAssigneesExcludingStatus(@Param("userIds") Collection<UUID> userIds,
+                                                                          @Param("doneStatus") TaskStatus doneStatus);
+
+    // Tasks of the team's projects that are assigned to one of its members; rebalancing candidates
+    @Query("SELECT t.assignedToUser.id AS assigneeId, t.id AS id, t.title AS title, t.status AS status, " +
+            "t.priority AS priority, t.storyPoints AS storyPoints, t.dueDate AS dueDate, t.riskLevel AS riskLevel " +
+            "FROM Task t " +
+            "WHERE t.project.team.id = :teamId AND t.status = :status " +
+            "AND t.assignedToUser.id IN (SELECT tm.user.id FROM TeamMember tm WHERE tm.team.id = :teamId)")
+    List<AssignedTaskSummary> findTeamTaskSummariesByStatus(@Param("teamId") UUID teamId,
+                                                            @Param("status") TaskStatus status);
+
+    // Developer dashboard aggregations - cost independent of a developer's task history
+
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM Task t " +
+            "WHERE t.assignedToUser.id = :userId GROUP BY t.status")
+    List<TaskStatusCount> countByStatusForAssignee(@Param("userId") UUID userId);
+
+    long countByAssignedToUserIdAndStatusAndCompletedAtAfter(UUID userId, TaskStatus status, LocalDateTime after);
+
+    @Query("SELECT new com.flowdesk.flowdesk_backend.dto.response.TaskSummaryResponse(" +
+            "t.id, t.title, t.status, t.priority, t.storyPoints, t.dueDate, t.riskLevel) " +
+            "FROM Task t " +
+            "WHERE t.assignedToUser.id = :userId " +
+            "AND t.status <> :doneStatus AND t.dueDate BETWEEN :start AND :end " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskSummaryResponse> findUpcomingDeadlinesForAssignee(@Param("userId") UUID userId,
+                                                               @Param("doneStatus") TaskStatus doneStatus,
+                                                               @Param("start") LocalDate start,
+                                                               @Param("end") LocalDate end,
+                                                               Pageable pageable);
+
+    // Conditional request versions; read without loading the task
+
+    // Users are shown in the task response, so their rows version it too, as do the risk columns
+    // that scoring writes without touching updatedAt
+    @Query("SELECT t.updatedAt AS updatedAt, a.updatedAt AS assigneeUpdatedAt, c.updatedAt AS creatorUpdatedAt, " +
+            "t.riskLevel AS riskLevel, t.riskScore AS riskScore, t.willMissDeadlinePrediction AS willMissDeadlinePrediction " +
+            "FROM Task t LEFT JOIN t.assignedToUser a LEFT JOIN t.createdByUser c WHERE t.id = :id")
+    Optional<TaskVersion> findVersionById(@Param("id") UUID id);
+
+    @Query("SELECT COUNT(t) AS taskCount, MAX(t.updatedAt) AS lastUpdatedAt FROM Task t WHERE t.project.id = :projectId")
+    TaskSetVersion findVersionByProjectId(@Param("projectId") UUID projectId);
+
+    // Critical path engine inputs
+
+    @Query("SELECT t.id AS id, t.project.id AS projectId, t.title AS title, t.status AS status, " +
+            "t.estimatedHours AS estimatedHours, t.dueDate AS dueDate FROM Task t WHERE t.project.id = :projectId")
+    List<TaskScheduleNode> findScheduleNodesByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT t.id AS id, t.project.id AS projectId, t.title AS title, t.status AS status, " +
+            "t.estimatedHours AS estimatedHours, t.dueDate AS dueDate FROM Task t WHERE t.id = :id")
+    Optional<TaskScheduleNode> findScheduleNodeById(@Param("id") UUID id);
+
+    // Project export; must be consumed inside a transaction so the driver fetches through a cursor
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description, t.status AS status, " +
+            "t.priority AS priority, t.storyPoints AS storyPoints, t.estimatedHours AS estimatedHours, " +
+            "t.actualHoursLogged AS actualHoursLogged, a.id AS assigneeId, a.email AS assigneeEmail, " +
+            "t.startDate AS startDate, t.dueDate AS dueDate, t.completedAt AS completedAt, " +
+            "t.riskLevel AS riskLevel, t.riskScore AS riskScore, t.createdAt AS createdAt, t.updatedAt AS updatedAt " +
+            "FROM Task t LEFT JOIN t.assignedToUser a " +
+            "WHERE t.project.id = :projectId ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<TaskExportRow> streamExportRowsByProjectId(@Param("projectId") UUID projectId);
+
+    // Risk scoring: keyset pages of open tasks in id order, subtasks counted in the same statement
+    @Query("SELECT t.id AS id, t.project.id AS projectId, t.assignedToUser.id AS assignedToUserId, " +
+            "t.estimatedHours AS estimatedHours, t.storyPoints AS storyPoints, t.priority AS priority, " +
+            "t.createdAt AS createdAt, (SELECT COUNT(s) FROM Subtask s WHERE s.task = t) AS subtaskCount, " +
+            "t.riskLevel AS riskLevel, t.riskScore AS riskScore, " +
+            "t.willMissDeadlinePrediction AS willMissDeadlinePrediction " +
+            "FROM Task t " +
+            "WHERE t.status <> :doneStatus AND t.id > :afterId " +
+            "ORDER BY t.id")
+    List<RiskScoringRow> findRiskScoringPage(@Param("doneStatus") TaskStatus doneStatus,
+                                             @Param("afterId") UUID afterId,
+                                             Limit limit);
+
+    @Query("SELECT COUNT(t) AS totalTasks, " +
+            "SUM(CASE WHEN t.riskLevel = :highRisk THEN 1 ELSE 0 END) AS highRiskTasks, " +
+            "SUM(CASE WHEN t.riskLevel = :mediumRisk THEN 1 ELSE 0 END) AS mediumRiskTasks " +
+            "FROM Task t WHERE t.project.id = :projectId")
+    ProjectRiskCounts countRiskLevelsByProjectId(@Param("projectId") UUID projectId,
+                                                 @Param("highRisk") RiskLevel highRisk,
+                                                 @Param("mediumRisk") RiskLevel mediumRisk);
+
+    // Typeahead index rebuild; must be consumed inside a transaction
+    @Query("SELECT t.id AS id, t.title AS title, t.project.id AS projectId FROM Task t")
+    Stream<TaskTypeaheadEntry> streamTypeaheadEntries();
+
+    // Archived tasks; tasks_archive is created by db/archive-schema.sql and not mapped
+
+    @Query(value = "SELECT a.id AS \"id\", a.project_id AS \"projectId\", a.title AS \"title\", " +
+            "a.description AS \"description\", a.status AS \"status\", a.priority AS \"priority\", " +
+            "a.story_points AS \"storyPoints\", a.estimated_hours AS \"estimatedHours\", " +
+            "a.actual_hours_logged AS \"actualHoursLogged\", a.start_date AS \"startDate\", " +
+            "a.due_date AS \"dueDate\", a.completed_at AS \"completedAt\", " +
+            "a.pull_request_url AS \"pullRequestUrl\", a.risk_score AS \"riskScore\", " +
+            "a.risk_level AS \"riskLevel\", a.will_miss_deadline_prediction AS \"willMissDeadlinePrediction\", " +
+            "a.ai_generated_summary AS \"aiGeneratedSummary\", a.created_at AS \"createdAt\", " +
+            "a.updated_at AS \"updatedAt\", " +
+            "au.id AS \"assigneeId\", au.email AS \"assigneeEmail\", au.first_name AS \"assigneeFirstName\", " +
+            "au.last_name AS \"assigneeLastName\", au.role AS \"assigneeRole\", " +
+            "cu.id AS \"creatorId\", cu.email AS \"creatorEmail\", cu.first_name AS \"creatorFirstName\", " +
+            "cu.last_name AS \"creatorLastName\", cu.role AS \"creatorRole\" " +
+            "FROM tasks_archive a " +
+            "LEFT JOIN users au ON au.id = a.assigned_to_user_id " +
+            "LEFT JOIN users cu ON cu.id = a.created_by_user_id " +
+            "WHERE a.id = :id",
+            nativeQuery = true)
+    Optional<ArchivedTaskRow> findArchivedById(@Param("id") UUID id);
+
+    @Query(value = "SELECT a.updated_at AS \"updatedAt\", au.updated_at AS \"assigneeUpdatedAt\", " +
+            "cu.updated_at AS \"creatorUpdatedAt\", a.risk_level AS \"riskLevel\", a.risk_score AS \"riskScore\", " +
+            "a.will_miss_deadline_prediction AS \"willMissDeadlinePrediction\" " +
+            "FROM tasks_archive a " +
+            "LEFT JOIN users au ON au.id = a.assigned_to_user_id " +
+            "LEFT JOIN users cu ON cu.id = a.created_by_user_id " +
+            "WHERE a.id = :id",
+            nativeQuery = true)
+    Optional<TaskVersion> findArchivedVersionById(@Param("id") UUID id);
+
+    @Query(value = "SELECT count(*) FROM tasks_archive a WHERE a.project_id = :projectId", nativeQuery = true)
+    long countArchivedByProjectId(@Param("projectId") UUID projectId);
+
+    // Export of archived tasks, in the export's column order; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT a.id AS \"id\", a.title AS \"title\", a.description AS \"description\", " +
+            "a.status AS \"status\", a.priority AS \"priority\", a.story_points AS \"storyPoints\", " +
+            "a.estimated_hours AS \"estimatedHours\", a.actual_hours_logged AS \"actualHoursLogged\", " +
+            "au.id AS \"assigneeId\", au.email AS \"assigneeEmail\", a.start_date AS \"startDate\", " +
+            "a.due_date AS \"dueDate\", a.completed_at AS \"completedAt\", a.risk_level AS \"riskLevel\", " +
+            "a.risk_score AS \"riskScore\", a.created_at AS \"createdAt\", a.updated_at AS \"updatedAt\" " +
+            "FROM tasks_archive a " +
+            "LEFT JOIN users au ON au.id = a.assigned_to_user_id " +
+            "WHERE a.project_id = :projectId ORDER BY a.created_at ASC, a.id ASC",
+            nativeQuery = true)
+    Stream<TaskExportRow> streamArchivedExportRowsByProjectId(@Param("projectId") UUID projectId);
+}
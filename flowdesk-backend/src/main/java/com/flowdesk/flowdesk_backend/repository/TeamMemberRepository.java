@@ -2,8 +2,12 @@ package com.flowdesk.flowdesk_backend.repository;
 
 
 
+import com.flowdesk.flowdesk_backend.dto.projection.MemberWorkload;
 import com.flowdesk.flowdesk_backend.model.TeamMember;
+import com.flowdesk.flowdesk_backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,5 +24,14 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, UUID> {
     Optional<TeamMember> findByTeamIdAndUserId(UUID teamId, UUID userId);
 
     boolean existsByTeamIdAndUserId(UUID teamId, UUID userId);
-}
 
+    // Distinct members of every team that owns one of the manager's projects
+    @Query("SELECT DISTINCT u FROM TeamMember tm JOIN tm.user u " +
+            "WHERE tm.team.id IN (SELECT p.team.id FROM Project p WHERE p.manager.id = :managerId)")
+    List<User> findDistinctUsersOfManagerProjectTeams(@Param("managerId") UUID managerId);
+
+    @Query("SELECT u.id AS id, u.email AS email, u.firstName AS firstName, u.lastName AS lastName, u.role AS role, " +
+            "u.currentWorkloadPoints AS currentWorkloadPoints, u.maxCapacityPoints AS maxCapacityPoints " +
+            "FROM TeamMember tm JOIN tm.user u WHERE tm.team.id = :teamId")
+    List<MemberWorkload> findMemberWorkloadsByTeamId(@Param("teamId") UUID teamId);
+}
@@ -1,8 +1,11 @@
 package com.flowdesk.flowdesk_backend.repository;
 
 
+import com.flowdesk.flowdesk_backend.dto.projection.TeamVersion;
 import com.flowdesk.flowdesk_backend.model.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,5 +18,12 @@ public interface TeamRepository extends JpaRepository<Team, UUID> {
     List<Team> findByManagerId(UUID managerId);
 
     Optional<Team> findByName(String name);
+
+    // Conditional request version; read without loading the team
+    @Query("SELECT t.updatedAt AS updatedAt, m.updatedAt AS managerUpdatedAt, COUNT(tm) AS memberCount " +
+            "FROM Team t JOIN t.manager m LEFT JOIN TeamMember tm ON tm.team = t " +
+            "WHERE t.id = :teamId " +
+            "GROUP BY t.id, t.updatedAt, m.updatedAt")
+    Optional<TeamVersion> findVersionById(@Param("teamId") UUID teamId);
 }
 
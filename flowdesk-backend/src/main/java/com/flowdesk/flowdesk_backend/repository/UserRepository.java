@@ -1,15 +1,19 @@
 package com.flowdesk.flowdesk_backend.repository;
 
+import com.flowdesk.flowdesk_backend.dto.projection.UserTypeaheadEntry;
 import com.flowdesk.flowdesk_backend.model.User;
 import com.flowdesk.flowdesk_backend.model.enums.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
@@ -22,4 +26,18 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query(value = "SELECT * FROM users WHERE role = CAST(:role AS text) AND :skill = ANY(skills)",
             nativeQuery = true)
     List<User> findByRoleAndSkillsContaining(@Param("role") String role, @Param("skill") String skill);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    // Atomic counter update; does not load the user
+    @Modifying
+    @Query("UPDATE User u SET u.currentWorkloadPoints = u.currentWorkloadPoints + :delta, u.updatedAt = LOCAL DATETIME " +
+            "WHERE u.id = :userId")
+    int addWorkloadPoints(@Param("userId") UUID userId, @Param("delta") int delta);
+
+    // Typeahead index rebuild; must be consumed inside a transaction
+    @Query("SELECT u.id AS id, u.firstName AS firstName, u.lastName AS lastName, u.email AS email, u.role AS role " +
+            "FROM User u")
+    Stream<UserTypeaheadEntry> streamTypeaheadEntries();
 }
@@ -0,0 +1,229 @@
+package com.flowdesk.flowdesk_backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowdesk.flowdesk_backend.dto.common.ErrorResponse;
+import com.flowdesk.flowdesk_backend.model.IdempotencyRecord;
+import com.flowdesk.flowdesk_backend.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Idempotency-Key handling for mutating task endpoints
+ * Task create, assign and approve POSTs carrying the header run once per key and user;
+ * retries with the same key and request get the stored response back without reaching
+ * TaskService. Runs after authorization, so only permitted requests claim a key. Only these
+ * synchronous endpoints are covered: the response is captured when the filter chain returns,
+ * which for async handlers (the ML endpoints) is before the body has been written.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    // POST /api/tasks, /api/tasks/{id}/assign and /api/tasks/{id}/approve
+    private static final Pattern IDEMPOTENT_PATH = Pattern.compile("/api/tasks(/[^/]+/(assign|approve))?");
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !IDEMPOTENT_PATH.matcher(request.getRequestURI().substring(request.getContextPath().length())).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        // The body is read once here for the fingerprint and replayed to the controller
+        byte[] body = request.getInputStream().readAllBytes();
+        IdempotencyService.Claim claim = idempotencyService.claim(
+                authentication.getName(), idempotencyKey, fingerprint(request, body));
+
+        switch (claim.outcome()) {
+            case REPLAY -> replay(claim.record(), response);
+            case IN_PROGRESS -> writeError(request, response, HttpStatus.CONFLICT,
+                    "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed");
+            case MISMATCH -> writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+            case STARTED -> proceed(claim.record(), new CachedBodyRequest(request, body), response, filterChain);
+        }
+    }
+
+    // Helper methods
+
+    private void proceed(IdempotencyRecord record, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            idempotencyService.abandon(record);
+            throw e;
+        }
+
+        // Server errors are not final; the client's retry should run the request again
+        int status = wrapper.getStatus();
+        if (status >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            idempotencyService.abandon(record);
+        } else {
+            idempotencyService.complete(record, status, wrapper.getContentType(),
+                    new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void replay(IdempotencyRecord record, HttpServletResponse response) throws IOException {
+        log.info("Replaying response for {} {}", IDEMPOTENCY_KEY_HEADER, record.getIdempotencyKey());
+        response.setStatus(record.getResponseStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.getResponseContentType() != null) {
+            response.setContentType(record.getResponseContentType());
+        }
+        if (record.getResponseBody() != null) {
+            byte[] body = record.getResponseBody().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + ' ' + request.getRequestURI()).getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update(('?' + request.getQueryString()).getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Request whose body has already been read and is served again from memory
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // Everything is already in memory: the data is available at once and never blocks
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
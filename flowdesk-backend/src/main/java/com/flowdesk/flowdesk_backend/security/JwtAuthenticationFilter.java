@@ -13,6 +13,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -34,6 +36,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
+    // Async dispatches (reactive and streaming responses) skip this filter and read the context from here
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -83,6 +88,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                         // Set authentication in SecurityContext
                         SecurityContextHolder.getContext().setAuthentication(authToken);
+                        securityContextRepository.saveContext(SecurityContextHolder.getContext(), request, response);
 
                         log.debug("Authentication set in SecurityContext for user: {}", userEmail);
                     } else {
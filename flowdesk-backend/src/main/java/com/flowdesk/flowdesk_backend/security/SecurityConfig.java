@@ -22,6 +22,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -43,6 +44,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final IdempotencyKeyFilter idempotencyKeyFilter;
     private final UserRepository userRepository;
 
     /**
@@ -80,6 +82,9 @@ public class SecurityConfig {
                 // Add JWT filter before UsernamePasswordAuthenticationFilter
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
+                // Replay retried task mutations after authorization has passed
+                .addFilterAfter(idempotencyKeyFilter, AuthorizationFilter.class)
+
                 // Configure authentication provider
                 .authenticationProvider(authenticationProvider());
 
@@ -118,8 +123,8 @@ public class SecurityConfig {
         // Allow credentials (cookies, authorization headers)
         configuration.setAllowCredentials(true);
 
-        // Expose Authorization header to frontend
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        // Expose Authorization, pagination and replay headers to frontend
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Next-Cursor", "ETag", "Idempotent-Replayed"));
 
         // Cache preflight response for 1 hour
         configuration.setMaxAge(3600L);
@@ -28,6 +28,7 @@ import java.util.Optional;
 public class AuthService {
 
     private final UserRepository userRepository;
+    private final TypeaheadService typeaheadService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
 
@@ -58,6 +59,8 @@ public class AuthService {
         User savedUser = userRepository.save(user);
         log.info("User registered successfully: {}", savedUser.getEmail());
 
+        typeaheadService.indexUser(savedUser);
+
         // Generate JWT token
         String accessToken = jwtUtil.generateToken(savedUser.getEmail());
 
@@ -0,0 +1,166 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.config.CacheConfig;
+import com.flowdesk.flowdesk_backend.dto.projection.TaskScheduleNode;
+import com.flowdesk.flowdesk_backend.dto.response.CriticalPathResponse;
+import com.flowdesk.flowdesk_backend.event.ProjectChangedEvent;
+import com.flowdesk.flowdesk_backend.event.TaskChangedEvent;
+import com.flowdesk.flowdesk_backend.event.TaskDependencyChangedEvent;
+import com.flowdesk.flowdesk_backend.event.TasksArchivedEvent;
+import com.flowdesk.flowdesk_backend.event.TasksImportedEvent;
+import com.flowdesk.flowdesk_backend.model.Project;
+import com.flowdesk.flowdesk_backend.repository.ProjectRepository;
+import com.flowdesk.flowdesk_backend.repository.TaskDependencyRepository;
+import com.flowdesk.flowdesk_backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Critical path engine
+ * Keeps each read project's dependency graph in memory and schedules it with the critical
+ * path method. Committed changes to a task's estimate, status, due date or blockers are
+ * applied to the cached graph, recomputing only the tasks up- and downstream of the change;
+ * the graph is loaded from the database on first read and again after it is evicted.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CriticalPathService {
+
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final ProjectRepository projectRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * Get the critical path and per-task slack of a project
+     */
+    @Transactional(readOnly = true)
+    public CriticalPathResponse getCriticalPath(UUID projectId) {
+        ProjectSchedule schedule = schedule(projectId);
+        synchronized (schedule) {
+            if (!schedule.isLoaded()) {
+                load(schedule, projectId);
+            }
+            return schedule.toResponse();
+        }
+    }
+
+    /**
+     * Apply a committed task change to the cached schedule
+     */
+    @Async("dashboardExecutor")
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        refresh(event.getProjectId(), event.getTaskId());
+    }
+
+    /**
+     * Apply a committed dependency change to the cached schedule
+     */
+    @Async("dashboardExecutor")
+    @TransactionalEventListener
+    public void onTaskDependencyChanged(TaskDependencyChangedEvent event) {
+        refresh(event.getProjectId(), event.getTaskId());
+    }
+
+    /**
+     * Drop the schedules of projects that received a bulk import batch; the next read reloads them
+     */
+    @Async("dashboardExecutor")
+    @TransactionalEventListener
+    public void onTasksImported(TasksImportedEvent event) {
+        event.getProjectIds().forEach(this::evict);
+    }
+
+    /**
+     * Drop the schedules of projects whose completed tasks were archived, together with their dependency edges
+     */
+    @Async("dashboardExecutor")
+    @TransactionalEventListener
+    public void onTasksArchived(TasksArchivedEvent event) {
+        event.getProjectIds().forEach(this::evict);
+    }
+
+    /**
+     * Drop the schedule of a changed project, whose start date every offset is measured from
+     */
+    @Async("dashboardExecutor")
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        evict(event.getProjectId());
+    }
+
+    // Helper methods
+
+    private void load(ProjectSchedule schedule, UUID projectId) {
+        try {
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+            LocalDate startDate = project.getStartDate() != null
+                    ? project.getStartDate()
+                    : project.getCreatedAt().toLocalDate();
+
+            long start = System.nanoTime();
+            schedule.load(startDate,
+                    taskRepository.findScheduleNodesByProjectId(projectId),
+                    taskDependencyRepository.findEdgesByProjectId(projectId));
+            log.debug("Schedule for project {} loaded in {} ms", projectId, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            evict(projectId);
+            throw e;
+        }
+    }
+
+    // Reads run under the schedule's monitor and reload the task, so late or reordered events still converge
+    private void refresh(UUID projectId, UUID taskId) {
+        Cache cache = cacheManager.getCache(CacheConfig.PROJECT_SCHEDULE_CACHE);
+        ProjectSchedule schedule = cache != null ? cache.get(projectId, ProjectSchedule.class) : null;
+        if (schedule == null) {
+            return;
+        }
+
+        synchronized (schedule) {
+            // Not loaded yet: the pending load reads this change from the database
+            if (!schedule.isLoaded()) {
+                return;
+            }
+            try {
+                Optional<TaskScheduleNode> task = taskRepository.findScheduleNodeById(taskId);
+                List<UUID> blockerIds = taskDependencyRepository.findBlockedByIdsByTaskId(taskId);
+                if (task.isEmpty() || !schedule.put(task.get(), blockerIds)) {
+                    log.debug("Schedule for project {} is out of order with task {}; reloading on next read", projectId, taskId);
+                    evict(projectId);
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to update schedule for project {} with task {}", projectId, taskId, e);
+                evict(projectId);
+            }
+        }
+    }
+
+    private ProjectSchedule schedule(UUID projectId) {
+        Cache cache = cacheManager.getCache(CacheConfig.PROJECT_SCHEDULE_CACHE);
+        return cache != null
+                ? cache.get(projectId, () -> new ProjectSchedule(projectId))
+                : new ProjectSchedule(projectId);
+    }
+
+    private void evict(UUID projectId) {
+        Cache cache = cacheManager.getCache(CacheConfig.PROJECT_SCHEDULE_CACHE);
+        if (cache != null) {
+            cache.evict(projectId);
+        }
+    }
+}
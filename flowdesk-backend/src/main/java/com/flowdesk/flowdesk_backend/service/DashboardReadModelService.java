@@ -0,0 +1,275 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowdesk.flowdesk_backend.config.CacheConfig;
+import com.flowdesk.flowdesk_backend.dto.response.DeveloperDashboardResponse;
+import com.flowdesk.flowdesk_backend.dto.response.ManagerDashboardResponse;
+import com.flowdesk.flowdesk_backend.event.ProjectChangedEvent;
+import com.flowdesk.flowdesk_backend.event.TaskChangedEvent;
+import com.flowdesk.flowdesk_backend.event.TasksArchivedEvent;
+import com.flowdesk.flowdesk_backend.event.TasksImportedEvent;
+import com.flowdesk.flowdesk_backend.event.TasksRiskScoredEvent;
+import com.flowdesk.flowdesk_backend.event.TeamMembershipChangedEvent;
+import com.flowdesk.flowdesk_backend.model.DashboardReadModel;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import com.flowdesk.flowdesk_backend.repository.DashboardReadModelRepository;
+import com.flowdesk.flowdesk_backend.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard read model
+ * Serves dashboards from one stored row per user and refreshes only the rows
+ * affected by a task, project or team membership change once that change has committed.
+ * Refreshes run on the dashboard executor so the committing request thread releases its
+ * connection first and never waits on the pool for a second one.
+ * A bounded in-process cache sits in front of the rows; concurrent misses for the
+ * same user are coalesced into a single load. Each row records when its dashboard started
+ * being built, and a write only replaces a row built earlier, so a slow build that read
+ * the data before a change cannot overwrite the refresh that followed the change.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardReadModelService {
+
+    private final DashboardReadModelRepository readModelRepository;
+    private final ProjectRepository projectRepository;
+    private final DashboardService dashboardService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final CacheManager cacheManager;
+
+    // Upper bound on staleness of the date-relative sections (upcoming deadlines, completed this week)
+    @Value("${flowdesk.dashboard.read-model.max-age:PT1H}")
+    private Duration maxAge;
+
+    /**
+     * Get manager dashboard from the read model, materializing it on first access
+     */
+    public ManagerDashboardResponse getManagerDashboard(UUID managerId) {
+        ManagerDashboardResponse dashboard = cached(CacheConfig.MANAGER_DASHBOARD_CACHE, managerId,
+                () -> read(managerId, UserRole.MANAGER, ManagerDashboardResponse.class,
+                        () -> dashboardService.getManagerDashboard(managerId)));
+
+        // Partial dashboards are served to the waiting callers but never kept
+        if (dashboard.isPartial()) {
+            evict(CacheConfig.MANAGER_DASHBOARD_CACHE, managerId);
+        }
+        return dashboard;
+    }
+
+    /**
+     * Get developer dashboard from the read model, materializing it on first access
+     */
+    public DeveloperDashboardResponse getDeveloperDashboard(UUID developerId) {
+        return cached(CacheConfig.DEVELOPER_DASHBOARD_CACHE, developerId,
+                () -> read(developerId, UserRole.DEVELOPER, DeveloperDashboardResponse.class,
+                        () -> dashboardService.getDeveloperDashboard(developerId)));
+    }
+
+    /**
+     * Refresh dashboards touched by a committed task change
+     */
+    @Async("dashboardExecutor")
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Set<UUID> managerIds = new HashSet<>();
+        projectRepository.findManagerIdById(event.getProjectId()).ifPresent(managerIds::add);
+        if (!event.getAssigneeIds().isEmpty()) {
+            managerIds.addAll(projectRepository.findManagerIdsByTeamMemberIds(event.getAssigneeIds()));
+        }
+
+        managerIds.forEach(this::refresh);
+        event.getAssigneeIds().forEach(this::refresh);
+    }
+
+    /**
+     * Refresh dashboards touched by a committed bulk import batch
+     */
+    @Async("dashboardExecutor")
+    @TransactionalEventListener
+    public void onTasksImported(TasksImportedEvent event) {
+        Set<UUID> managerIds = new HashSet<>(projectRepository.findManagerIdsByIds(event.getProjectIds()));
+        if (!event.getAssigneeIds().isEmpty()) {
+            managerIds.addAll(projectRepository.findManagerIdsByTeamMemberIds(event.getAssigneeIds()));
+        }
+
+        managerIds.forEach(this::refresh);
+        event.getAssigneeIds().forEach(this::refresh);
+    }
+
+    /**
+     * Refresh the managers' dashboards after a committed archive batch; their completed task counts shrink
+     */
+    @Async("dashboardExecutor")
+    @TransactionalEventListener
+    public void onTasksArchived(TasksArchivedEvent event) {
+        projectRepository.findManagerIdsByIds(event.getProjectIds()).forEach(this::refresh);
+    }
+
+    /**
+     * Refresh dashboards showing task risk after a committed scoring run
+     */
+    @Async("dashboardExecutor")
+    @TransactionalEventListener
+    public void onTasksRiskScored(TasksRiskScoredEvent event) {
+        projectRepository.findManagerIdsByIds(event.getProjectIds()).forEach(this::refresh);
+        event.getAssigneeIds().forEach(this::refresh);
+    }
+
+    /**
+     * Refresh the owning manager's dashboard after a committed project change
+     */
+    @Async("dashboardExecutor")
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        refresh(event.getManagerId());
+    }
+
+    /**
+     * Refresh the dashboards of managers whose team workload lists the team after a committed membership change
+     */
+    @Async("dashboardExecutor")
+    @TransactionalEventListener
+    public void onTeamMembershipChanged(TeamMembershipChangedEvent event) {
+        projectRepository.findManagerIdsByTeamId(event.getTeamId()).forEach(this::refresh);
+    }
+
+    // Helper methods
+
+    private <T> T read(UUID userId, UserRole role, Class<T> type, Supplier<T> loader) {
+        Optional<DashboardReadModel> stored = readModelRepository.findById(userId)
+                .filter(row -> row.getRole() == role)
+                .filter(row -> row.getRefreshedAt().isAfter(LocalDateTime.now().minus(maxAge)));
+
+        if (stored.isPresent()) {
+            try {
+                return objectMapper.readValue(stored.get().getPayload(), type);
+            } catch (JsonProcessingException e) {
+                log.warn("Discarding unreadable dashboard read model for user: {}", userId, e);
+            }
+        }
+
+        LocalDateTime builtAt = LocalDateTime.now();
+        T dashboard = loader.get();
+        if (!isPartial(dashboard)) {
+            store(userId, role, dashboard, builtAt);
+        }
+        return dashboard;
+    }
+
+    // Cache.get(key, loader) is backed by Caffeine's atomic compute, so one caller loads per key
+    private <T> T cached(String cacheName, UUID userId, Callable<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            try {
+                return loader.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        try {
+            return cache.get(userId, loader);
+        } catch (Cache.ValueRetrievalException e) {
+            // Surface the loader's own exception (e.g. user not found) to the controller advice
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private boolean isPartial(Object dashboard) {
+        return dashboard instanceof ManagerDashboardResponse manager && manager.isPartial();
+    }
+
+    private void refresh(UUID userId) {
+        refreshIfMaterialized(userId);
+
+        // Evict only after the row is rewritten so a concurrent miss cannot re-cache the old payload
+        evict(CacheConfig.MANAGER_DASHBOARD_CACHE, userId);
+        evict(CacheConfig.DEVELOPER_DASHBOARD_CACHE, userId);
+    }
+
+    private void evict(String cacheName, UUID userId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+
+    private void refreshIfMaterialized(UUID userId) {
+        try {
+            Optional<UserRole> role = readModelRepository.findById(userId).map(DashboardReadModel::getRole);
+            if (role.isEmpty()) {
+                return;
+            }
+
+            // Built outside any transaction so no connection is held while the sections wait for theirs
+            LocalDateTime builtAt = LocalDateTime.now();
+            Object dashboard = role.get() == UserRole.MANAGER
+                    ? dashboardService.getManagerDashboard(userId)
+                    : dashboardService.getDeveloperDashboard(userId);
+            if (isPartial(dashboard)) {
+                throw new IllegalStateException("Dashboard sections unavailable during refresh");
+            }
+            String payload = serialize(dashboard);
+
+            inNewTransaction(() -> {
+                if (readModelRepository.updateIfOlder(userId, payload, builtAt) == 0) {
+                    log.debug("Dashboard read model for user: {} was already rebuilt or removed", userId);
+                }
+            });
+            log.debug("Dashboard read model refreshed for user: {}", userId);
+        } catch (RuntimeException e) {
+            // Never leave a stale row behind; the next read rebuilds it
+            log.error("Failed to refresh dashboard read model for user: {}", userId, e);
+            inNewTransaction(() -> readModelRepository.deleteById(userId));
+        }
+    }
+
+    private void store(UUID userId, UserRole role, Object dashboard, LocalDateTime builtAt) {
+        try {
+            String payload = serialize(dashboard);
+            inNewTransaction(() -> readModelRepository.upsertIfOlder(userId, role.name(), payload, builtAt));
+        } catch (RuntimeException e) {
+            // The response is still valid; the next read materializes the row
+            log.warn("Failed to store dashboard read model for user: {}", userId, e);
+        }
+    }
+
+    private String serialize(Object dashboard) {
+        try {
+            return objectMapper.writeValueAsString(dashboard);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize dashboard", e);
+        }
+    }
+
+    // Writes always get their own short transaction, independent of any caller's
+    private void inNewTransaction(Runnable action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.executeWithoutResult(status -> action.run());
+    }
+}
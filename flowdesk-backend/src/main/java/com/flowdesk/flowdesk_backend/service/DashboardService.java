@@ -1,10 +1,9 @@
 package com.flowdesk.flowdesk_backend.service;
 
 import com.flowdesk.flowdesk_backend.dto.common.MemberWorkloadResponse;
+import com.flowdesk.flowdesk_backend.dto.projection.AssignedTaskSummary;
+import com.flowdesk.flowdesk_backend.dto.projection.ManagerTaskCounts;
 import com.flowdesk.flowdesk_backend.dto.response.*;
-import com.flowdesk.flowdesk_backend.model.Project;
-import com.flowdesk.flowdesk_backend.model.Task;
-import com.flowdesk.flowdesk_backend.model.TeamMember;
 import com.flowdesk.flowdesk_backend.model.User;
 import com.flowdesk.flowdesk_backend.model.enums.ProjectStatus;
 import com.flowdesk.flowdesk_backend.model.enums.RiskLevel;
@@ -12,12 +11,22 @@ import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
 import com.flowdesk.flowdesk_backend.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,64 +39,72 @@ public class DashboardService {
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
 
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService dashboardExecutor;
+
+    private static final int UPCOMING_DEADLINES_LIMIT = 10;
+
+    @Value("${flowdesk.dashboard.section-timeout:PT2S}")
+    private Duration sectionTimeout;
+
     /**
-     * Get dashboard data for managers
+     * Get dashboard data for managers.
+     * Independent sections run concurrently, each in its own short read-only transaction;
+     * a section that fails or exceeds its timeout is reported in unavailableSections
+     * instead of failing the whole dashboard.
      */
-    @Transactional(readOnly = true)
     public ManagerDashboardResponse getManagerDashboard(UUID managerId) {
         log.info("Fetching manager dashboard for user: {}", managerId);
 
         // Verify user exists
-        User manager = userRepository.findById(managerId)
-                .orElseThrow(() -> new RuntimeException("Manager not found with id: " + managerId));
-
-        // Get active projects count
-        List<Project> activeProjects = projectRepository.findByManagerIdAndStatus(
-                managerId, ProjectStatus.ACTIVE);
-        int activeProjectsCount = activeProjects.size();
-
-        // Get all tasks from manager's projects
-        List<Task> allTasks = new ArrayList<>();
-        for (Project project : activeProjects) {
-            allTasks.addAll(taskRepository.findByProjectId(project.getId()));
+        if (!userRepository.existsById(managerId)) {
+            throw new RuntimeException("Manager not found with id: " + managerId);
         }
 
-        int totalTasks = allTasks.size();
-        int completedTasks = (int) allTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE)
-                .count();
-
-        // Get high-risk tasks count
-        int highRiskTasksCount = (int) allTasks.stream()
-                .filter(task -> task.getRiskLevel() == RiskLevel.HIGH)
-                .count();
-
-        // Get upcoming deadlines (next 7 days)
         LocalDate today = LocalDate.now();
         LocalDate nextWeek = today.plusDays(7);
+        List<String> unavailableSections = new CopyOnWriteArrayList<>();
 
-        List<TaskSummaryResponse> upcomingDeadlines = allTasks.stream()
-                .filter(task -> task.getDueDate() != null)
-                .filter(task -> !task.getDueDate().isBefore(today) && !task.getDueDate().isAfter(nextWeek))
-                .filter(task -> task.getStatus() != TaskStatus.DONE)
-                .sorted(Comparator.comparing(Task::getDueDate))
-                .limit(10)
-                .map(this::mapToTaskSummaryResponse)
-                .collect(Collectors.toList());
+        // Get active projects count
+        CompletableFuture<Long> activeProjects = section("activeProjects", unavailableSections, null,
+                () -> projectRepository.countByManagerIdAndStatus(managerId, ProjectStatus.ACTIVE));
+
+        // Aggregate task counters across all active projects in a single query
+        CompletableFuture<ManagerTaskCounts> taskCounts = section("taskCounts", unavailableSections, null,
+                () -> taskRepository.countTasksForManager(
+                        managerId, ProjectStatus.ACTIVE, TaskStatus.DONE, RiskLevel.HIGH));
+
+        // Get upcoming deadlines (next 7 days)
+        CompletableFuture<List<TaskSummaryResponse>> upcomingDeadlines = section("upcomingDeadlines",
+                unavailableSections, List.of(),
+                () -> taskRepository.findUpcomingDeadlinesForManager(
+                        managerId, ProjectStatus.ACTIVE, TaskStatus.DONE, today, nextWeek,
+                        PageRequest.of(0, UPCOMING_DEADLINES_LIMIT)));
 
         // Get team workload
-        List<MemberWorkloadResponse> teamWorkload = getTeamWorkloadForManager(managerId);
+        CompletableFuture<List<MemberWorkloadResponse>> teamWorkload = section("teamWorkload",
+                unavailableSections, List.of(), () -> getTeamWorkloadForManager(managerId));
+
+        CompletableFuture.allOf(activeProjects, taskCounts, upcomingDeadlines, teamWorkload).join();
+
+        Long activeProjectsCount = activeProjects.join();
+        ManagerTaskCounts counts = taskCounts.join();
 
         ManagerDashboardResponse response = ManagerDashboardResponse.builder()
-                .activeProjects(activeProjectsCount)
-                .totalTasks(totalTasks)
-                .completedTasks(completedTasks)
-                .highRiskTasksCount(highRiskTasksCount)
-                .upcomingDeadlines(upcomingDeadlines)
-                .teamWorkload(teamWorkload)
+                .activeProjects(activeProjectsCount != null ? activeProjectsCount.intValue() : null)
+                .totalTasks(counts != null ? toInt(counts.getTotalTasks()) : null)
+                .completedTasks(counts != null ? toInt(counts.getCompletedTasks()) : null)
+                .highRiskTasksCount(counts != null ? toInt(counts.getHighRiskTasks()) : null)
+                .upcomingDeadlines(upcomingDeadlines.join())
+                .teamWorkload(teamWorkload.join())
+                .unavailableSections(unavailableSections.isEmpty() ? null : List.copyOf(unavailableSections))
                 .build();
 
-        log.info("Manager dashboard generated successfully for user: {}", managerId);
+        if (response.isPartial()) {
+            log.warn("Manager dashboard for user {} is missing sections: {}", managerId, unavailableSections);
+        } else {
+            log.info("Manager dashboard generated successfully for user: {}", managerId);
+        }
         return response;
     }
 
@@ -102,36 +119,33 @@ public class DashboardService {
         User developer = userRepository.findById(developerId)
                 .orElseThrow(() -> new RuntimeException("Developer not found with id: " + developerId));
 
-        // Get all tasks assigned to developer
-        List<Task> myTasks = taskRepository.findByAssignedToUserId(developerId);
-        int myTasksCount = myTasks.size();
+        // Get tasks grouped by status
+        Map<TaskStatus, Long> tasksByStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            tasksByStatus.put(status, 0L);
+        }
+        taskRepository.countByStatusForAssignee(developerId)
+                .forEach(count -> tasksByStatus.put(count.getStatus(), count.getCount()));
+
+        int myTasksCount = (int) tasksByStatus.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
 
         // Get current workload
         int currentWorkload = developer.getCurrentWorkloadPoints();
 
         // Get completed tasks this week
         LocalDateTime weekStart = LocalDateTime.now().minusDays(7);
-        int completedThisWeek = (int) myTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE)
-                .filter(task -> task.getCompletedAt() != null)
-                .filter(task -> task.getCompletedAt().isAfter(weekStart))
-                .count();
+        int completedThisWeek = (int) taskRepository.countByAssignedToUserIdAndStatusAndCompletedAtAfter(
+                developerId, TaskStatus.DONE, weekStart);
 
         // Get upcoming deadlines (next 7 days)
         LocalDate today = LocalDate.now();
         LocalDate nextWeek = today.plusDays(7);
 
-        List<TaskSummaryResponse> upcomingDeadlines = myTasks.stream()
-                .filter(task -> task.getDueDate() != null)
-                .filter(task -> !task.getDueDate().isBefore(today) && !task.getDueDate().isAfter(nextWeek))
-                .filter(task -> task.getStatus() != TaskStatus.DONE)
-                .sorted(Comparator.comparing(Task::getDueDate))
-                .map(this::mapToTaskSummaryResponse)
-                .collect(Collectors.toList());
-
-        // Get tasks grouped by status
-        Map<TaskStatus, Long> tasksByStatus = myTasks.stream()
-                .collect(Collectors.groupingBy(Task::getStatus, Collectors.counting()));
+        List<TaskSummaryResponse> upcomingDeadlines = taskRepository.findUpcomingDeadlinesForAssignee(
+                developerId, TaskStatus.DONE, today, nextWeek,
+                PageRequest.of(0, UPCOMING_DEADLINES_LIMIT));
 
         DeveloperDashboardResponse response = DeveloperDashboardResponse.builder()
                 .myTasksCount(myTasksCount)
@@ -150,52 +164,65 @@ public class DashboardService {
     /**
      * Get team workload for all members in manager's teams
      */
-    @Transactional(readOnly = true)
     private List<MemberWorkloadResponse> getTeamWorkloadForManager(UUID managerId) {
-        // Get all team members from manager's teams
-        List<Project> managerProjects = projectRepository.findByManagerId(managerId);
-
-        Set<UUID> teamIds = managerProjects.stream()
-                .map(project -> project.getTeam().getId())
-                .collect(Collectors.toSet());
-
-        List<TeamMember> allTeamMembers = new ArrayList<>();
-        for (UUID teamId : teamIds) {
-            allTeamMembers.addAll(teamMemberRepository.findByTeamId(teamId));
+        // Get unique users from all teams owning the manager's projects
+        List<User> uniqueUsers = teamMemberRepository.findDistinctUsersOfManagerProjectTeams(managerId);
+        if (uniqueUsers.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        // Get unique users from team members
-        Set<User> uniqueUsers = allTeamMembers.stream()
-                .map(TeamMember::getUser)
+        // Load active task summaries for all members at once and group them by assignee
+        Set<UUID> userIds = uniqueUsers.stream()
+                .map(User::getId)
                 .collect(Collectors.toSet());
 
+        Map<UUID, List<TaskSummaryResponse>> activeTasksByUser = taskRepository
+                .findTaskSummariesByAssigneesExcludingStatus(userIds, TaskStatus.DONE).stream()
+                .collect(Collectors.groupingBy(
+                        AssignedTaskSummary::getAssigneeId,
+                        Collectors.mapping(this::mapToTaskSummaryResponse, Collectors.toList())));
+
         // Create workload response for each user
         return uniqueUsers.stream()
                 .map(user -> {
                     double utilization = (user.getCurrentWorkloadPoints() * 100.0) / user.getMaxCapacityPoints();
 
-                    // Get active tasks for this user
-                    List<Task> activeTasks = taskRepository.findByAssignedToUserId(user.getId()).stream()
-                            .filter(task -> task.getStatus() != TaskStatus.DONE)
-                            .collect(Collectors.toList());
-
-                    List<TaskSummaryResponse> taskSummaries = activeTasks.stream()
-                            .map(this::mapToTaskSummaryResponse)
-                            .collect(Collectors.toList());
-
                     return MemberWorkloadResponse.builder()
                             .user(mapToUserResponse(user))
                             .currentWorkload(user.getCurrentWorkloadPoints())
                             .maxCapacity(user.getMaxCapacityPoints())
                             .utilizationPercentage(Math.round(utilization * 100.0) / 100.0)
-                            .activeTasks(taskSummaries)
+                            .activeTasks(activeTasksByUser.getOrDefault(user.getId(), new ArrayList<>()))
                             .build();
                 })
                 .sorted(Comparator.comparing(MemberWorkloadResponse::getUtilizationPercentage).reversed())
                 .collect(Collectors.toList());
     }
 
-    private TaskSummaryResponse mapToTaskSummaryResponse(Task task) {
+    /**
+     * Run one dashboard section on the dashboard executor in its own read-only transaction
+     */
+    private <T> CompletableFuture<T> section(String name, List<String> unavailableSections,
+                                             T fallback, Supplier<T> loader) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setTimeout((int) Math.max(1, sectionTimeout.toSeconds()));
+
+        return CompletableFuture
+                .supplyAsync(() -> readOnlyTransaction.execute(status -> loader.get()), dashboardExecutor)
+                .orTimeout(sectionTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn("Dashboard section {} unavailable: {}", name, ex.toString());
+                    unavailableSections.add(name);
+                    return fallback;
+                });
+    }
+
+    private int toInt(Long value) {
+        return value != null ? value.intValue() : 0;
+    }
+
+    private TaskSummaryResponse mapToTaskSummaryResponse(AssignedTaskSummary task) {
         return TaskSummaryResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
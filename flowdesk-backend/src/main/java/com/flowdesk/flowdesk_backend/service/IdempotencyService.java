@@ -0,0 +1,199 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.config.CacheConfig;
+import com.flowdesk.flowdesk_backend.model.IdempotencyRecord;
+import com.flowdesk.flowdesk_backend.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * Idempotency keys of mutating requests
+ * A key is claimed by inserting its row, so only one of several concurrent retries runs;
+ * the unique constraint decides the race. Completed outcomes are kept in the table until
+ * they expire and in an in-memory cache in front of it, so most replays skip the database.
+ * A claim is a lease: if its request has not finished within the claim timeout (the instance
+ * died mid-request, say), the next retry takes the key over instead of being refused until
+ * the key expires.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final CacheManager cacheManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${flowdesk.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    @Value("${flowdesk.idempotency.claim-timeout:PT1M}")
+    private Duration claimTimeout;
+
+    public enum Outcome {
+        // The caller owns the key and must complete or abandon it
+        STARTED,
+        // Same request seen before; the stored response is to be replayed
+        REPLAY,
+        // The first request with this key has not finished yet
+        IN_PROGRESS,
+        // The key was used for a different request
+        MISMATCH
+    }
+
+    public record Claim(Outcome outcome, IdempotencyRecord record) {
+    }
+
+    /**
+     * Claim a key for a request, or find how an earlier request with the same key went
+     */
+    public Claim claim(String owner, String idempotencyKey, String requestFingerprint) {
+        IdempotencyRecord cached = cached(owner, idempotencyKey);
+        if (cached != null && !isExpired(cached)) {
+            return decide(cached, requestFingerprint);
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        // A second attempt covers a conflicting row that expired or was abandoned meanwhile
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                IdempotencyRecord record = new IdempotencyRecord();
+                record.setOwner(owner);
+                record.setIdempotencyKey(idempotencyKey);
+                record.setRequestFingerprint(requestFingerprint);
+                record.setClaimedAt(claimTime());
+                record.setExpiresAt(record.getClaimedAt().plus(ttl));
+                return new Claim(Outcome.STARTED, idempotencyRecordRepository.saveAndFlush(record));
+            } catch (DataIntegrityViolationException e) {
+                Optional<IdempotencyRecord> existing =
+                        idempotencyRecordRepository.findByOwnerAndIdempotencyKey(owner, idempotencyKey);
+                if (existing.isEmpty()) {
+                    continue;
+                }
+                IdempotencyRecord record = existing.get();
+                if (isExpired(record)) {
+                    transaction.executeWithoutResult(status -> idempotencyRecordRepository.deleteById(record.getId()));
+                    continue;
+                }
+                if (record.isCompleted()) {
+                    cache(record);
+                } else if (record.getRequestFingerprint().equals(requestFingerprint) && takeOver(transaction, record)) {
+                    return new Claim(Outcome.STARTED, record);
+                }
+                return decide(record, requestFingerprint);
+            }
+        }
+
+        log.warn("Could not claim idempotency key {} of {}", idempotencyKey, owner);
+        return new Claim(Outcome.IN_PROGRESS, null);
+    }
+
+    /**
+     * Store the response of a claimed request for later replays
+     */
+    public void complete(IdempotencyRecord record, int status, String contentType, String body) {
+        try {
+            Integer completed = new TransactionTemplate(transactionManager).execute(tx ->
+                    idempotencyRecordRepository.complete(record.getId(), record.getClaimedAt(), status, contentType, body));
+            if (completed == null || completed == 0) {
+                log.warn("Idempotency key {} was taken over before its response was stored", record.getIdempotencyKey());
+                return;
+            }
+            record.setResponseStatus(status);
+            record.setResponseContentType(contentType);
+            record.setResponseBody(body);
+            cache(record);
+        } catch (RuntimeException e) {
+            // Left in progress, the key would turn every retry away until it expires
+            log.error("Failed to store response for idempotency key {}", record.getIdempotencyKey(), e);
+            abandon(record);
+        }
+    }
+
+    /**
+     * Release a claimed key without storing a response, so a retry runs the request again
+     */
+    public void abandon(IdempotencyRecord record) {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    idempotencyRecordRepository.release(record.getId(), record.getClaimedAt()));
+        } catch (RuntimeException e) {
+            log.error("Failed to release idempotency key {}", record.getIdempotencyKey(), e);
+        }
+    }
+
+    /**
+     * Delete expired keys
+     */
+    @Scheduled(fixedDelayString = "${flowdesk.idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        Integer deleted = new TransactionTemplate(transactionManager).execute(status ->
+                idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+        log.debug("Purged {} expired idempotency keys", deleted);
+    }
+
+    // Helper methods
+
+    private Claim decide(IdempotencyRecord record, String requestFingerprint) {
+        if (!record.getRequestFingerprint().equals(requestFingerprint)) {
+            return new Claim(Outcome.MISMATCH, record);
+        }
+        return new Claim(record.isCompleted() ? Outcome.REPLAY : Outcome.IN_PROGRESS, record);
+    }
+
+    // Only one of several retries racing for a stale claim gets the conditional update through
+    private boolean takeOver(TransactionTemplate transaction, IdempotencyRecord record) {
+        LocalDateTime now = claimTime();
+        if (!record.getClaimedAt().isBefore(now.minus(claimTimeout))) {
+            return false;
+        }
+        Integer taken = transaction.execute(status ->
+                idempotencyRecordRepository.takeOver(record.getId(), now, now.minus(claimTimeout)));
+        if (taken == null || taken == 0) {
+            return false;
+        }
+        log.warn("Took over idempotency key {} of {}, unfinished since {}",
+                record.getIdempotencyKey(), record.getOwner(), record.getClaimedAt());
+        record.setClaimedAt(now);
+        return true;
+    }
+
+    // At the column's microsecond precision, so the lease compares equal to what was stored
+    private LocalDateTime claimTime() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private boolean isExpired(IdempotencyRecord record) {
+        return record.getExpiresAt().isBefore(LocalDateTime.now());
+    }
+
+    private IdempotencyRecord cached(String owner, String idempotencyKey) {
+        Cache cache = cacheManager.getCache(CacheConfig.IDEMPOTENCY_CACHE);
+        return cache != null ? cache.get(cacheKey(owner, idempotencyKey), IdempotencyRecord.class) : null;
+    }
+
+    // Only completed records are cached; they no longer change
+    private void cache(IdempotencyRecord record) {
+        Cache cache = cacheManager.getCache(CacheConfig.IDEMPOTENCY_CACHE);
+        if (cache != null) {
+            cache.put(cacheKey(record.getOwner(), record.getIdempotencyKey()), record);
+        }
+    }
+
+    private String cacheKey(String owner, String idempotencyKey) {
+        return owner + '\n' + idempotencyKey;
+    }
+}
@@ -1,118 +1,387 @@
 package com.flowdesk.flowdesk_backend.service;
 
+import com.flowdesk.flowdesk_backend.config.CacheConfig;
 import com.flowdesk.flowdesk_backend.dto.ml.*;
+import com.flowdesk.flowdesk_backend.dto.projection.RiskScoringRow;
 import com.flowdesk.flowdesk_backend.model.Task;
 import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.TaskPriority;
+import com.flowdesk.flowdesk_backend.repository.SubtaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Client for the ML service
+ * Concurrent risk predictions are micro-batched: callers are collected for a short window,
+ * or until the batch is full, and scored with one predict-risk-batch call whose results are
+ * handed back to each waiting caller.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class MLServiceClient {
+public class MLServiceClient implements SmartLifecycle {
 
     private final WebClient mlWebClient;
+    private final SubtaskRepository subtaskRepository;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${flowdesk.ml.risk-batching.window:PT0.005S}")
+    private Duration riskBatchWindow;
+
+    @Value("${flowdesk.ml.risk-batching.max-batch-size:50}")
+    private int riskBatchMaxSize;
+
+    @Value("${flowdesk.ml.risk-batching.caller-timeout:PT10S}")
+    private Duration riskCallerTimeout;
+
+    private static final String RISK_LATENCY_METRIC = "flowdesk.ml.risk.latency";
+    private static final String RISK_SAVED_METRIC = "flowdesk.ml.risk.cache.saved";
+    private static final String RISK_BATCH_SIZE_METRIC = "flowdesk.ml.risk.batch.size";
+
+    private static final Duration CALL_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration BATCH_CALL_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration HEALTH_TIMEOUT = Duration.ofSeconds(5);
+
+    // Risk model version reported by the ML service; null until it has answered once
+    private volatile String modelVersion;
+
+    // Entry point of the batching pipeline; null while the client is stopped
+    private volatile FluxSink<PendingRiskPrediction> riskRequests;
+    private Disposable riskBatcher;
 
     /**
      * Predicts risk level for a task by calling external ML service.
+     * Predictions are cached by feature vector and model version, so a task whose
+     * features have not changed is answered from memory until the entry expires.
+     * Features are read on the calling thread; only the remote call is asynchronous.
+     * Cache misses join the current micro-batch and wait at most the caller timeout for it.
      */
-    public RiskPredictionResponse predictTaskRisk(Task task, User assignedUser) {
-        try {
-            RiskPredictionRequest request = RiskPredictionRequest.builder()
-                    .estimatedHours(task.getEstimatedHours() != null ? task.getEstimatedHours().doubleValue() : 0.0)
-                    .storyPoints(task.getStoryPoints() != null ? task.getStoryPoints() : 0)
-                    .developerWorkload(calculateDeveloperWorkload(assignedUser))
-                    .priority(convertPriority(task.getPriority()))
-                    .numSubtasks(task.getSubtasks() != null ? task.getSubtasks().size() : 0)
-                    .taskAgeDays(calculateTaskAgeDays(task))
-                    .build();
-
-            return mlWebClient.post()
-                    .uri("/api/ml/predict-risk")
-                    .bodyValue(request)
-                    .header("Content-Type", "application/json")
-                    .retrieve()
-                    .bodyToMono(RiskPredictionResponse.class)
-                    .block(Duration.ofSeconds(10));
-        } catch (Exception e) {
-            log.error("Failed to call predict-risk ML service", e);
-            RiskPredictionResponse fallback = new RiskPredictionResponse();
-            fallback.setRiskLevel("MEDIUM");
-            fallback.setRiskScore(50);
-            fallback.setProbabilities(Map.of("LOW",0.3,"MEDIUM",0.4,"HIGH",0.3));
-            fallback.setConfidence("MEDIUM");
-            return fallback;
+    public Mono<RiskPredictionResponse> predictTaskRisk(Task task, User assignedUser) {
+        RiskPredictionRequest request = buildRiskFeatures(task.getEstimatedHours(), task.getStoryPoints(),
+                assignedUser != null ? assignedUser.getId() : null, task.getPriority(),
+                subtaskRepository.countByTaskId(task.getId()), task.getCreatedAt());
+
+        // Without a known model version a cached prediction may come from another model
+        String version = modelVersion;
+        Cache cache = version != null ? cacheManager.getCache(CacheConfig.RISK_PREDICTION_CACHE) : null;
+        RiskCacheKey key = new RiskCacheKey(version, request);
+        if (cache != null) {
+            RiskPredictionResponse cached = cache.get(key, RiskPredictionResponse.class);
+            if (cached != null) {
+                recordSavedLatency();
+                return Mono.just(cached);
+            }
         }
+
+        return Mono.<RiskPredictionResponse>create(result -> enqueueRiskPrediction(request, result))
+                .timeout(riskCallerTimeout)
+                .elapsed()
+                .map(timed -> {
+                    riskLatency().record(timed.getT1(), TimeUnit.MILLISECONDS);
+                    // Fallbacks below are never cached
+                    if (cache != null) {
+                        cache.put(key, timed.getT2());
+                    }
+                    return timed.getT2();
+                })
+                .onErrorResume(e -> {
+                    log.error("Failed to get risk prediction from ML service", e);
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    RiskPredictionResponse fallback = new RiskPredictionResponse();
+                    fallback.setRiskLevel("MEDIUM");
+                    fallback.setRiskScore(50);
+                    fallback.setProbabilities(Map.of("LOW",0.3,"MEDIUM",0.4,"HIGH",0.3));
+                    fallback.setConfidence("MEDIUM");
+                    return fallback;
+                }));
+    }
+
+    /**
+     * Predicts risk for a page of open tasks with one call to the ML service.
+     * Emits an empty list when the service fails, so callers can stop instead of retrying per task.
+     */
+    public Mono<List<BatchRiskPredictionResponse.Prediction>> predictTaskRisks(List<RiskScoringRow> tasks) {
+        BatchRiskPredictionRequest request = BatchRiskPredictionRequest.builder()
+                .tasks(tasks.stream()
+                        .map(task -> BatchRiskPredictionRequest.TaskFeatures.builder()
+                                .id(task.getId())
+                                .features(buildRiskFeatures(task.getEstimatedHours(), task.getStoryPoints(),
+                                        task.getAssignedToUserId(), task.getPriority(),
+                                        task.getSubtaskCount(), task.getCreatedAt()))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+
+        return mlWebClient.post()
+                .uri("/api/ml/predict-risk-batch")
+                .bodyValue(request)
+                .header("Content-Type", "application/json")
+                .retrieve()
+                .bodyToMono(BatchRiskPredictionResponse.class)
+                .timeout(BATCH_CALL_TIMEOUT)
+                .map(response -> response.getPredictions() != null
+                        ? response.getPredictions() : Collections.<BatchRiskPredictionResponse.Prediction>emptyList())
+                .onErrorResume(e -> {
+                    log.error("Failed to call predict-risk-batch ML service for {} tasks", tasks.size(), e);
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(Collections.emptyList());
     }
 
     /**
      * Recommends assignees for the task by calling external ML service.
      */
-    public List<AssigneeRecommendationResponse> recommendAssignee(Task task, List<User> availableDevelopers) {
-        try {
-            List<String> taskSkills = extractSkillsFromTask(task);
-            // --- Make sure DeveloperInfo class is public static in AssigneeRecommendationRequest.java ---
-            List<AssigneeRecommendationRequest.DeveloperInfo> developerInfos = availableDevelopers.stream()
-                    .map(this::mapUserToDeveloperInfo)
-                    .collect(Collectors.toList());
-
-            AssigneeRecommendationRequest request = AssigneeRecommendationRequest.builder()
-                    .taskSkills(taskSkills)
-                    .developers(developerInfos)
-                    .build();
-
-            AssigneeRecommendationResponse[] responseArray = mlWebClient.post()
-                    .uri("/api/ml/recommend-assignee")
-                    .bodyValue(request)
-                    .header("Content-Type", "application/json")
-                    .retrieve()
-                    .bodyToMono(AssigneeRecommendationResponse[].class)
-                    .block(Duration.ofSeconds(10));
-
-            return responseArray != null ? List.of(responseArray) : Collections.emptyList();
-        } catch (Exception e) {
-            log.error("Failed to call recommend-assignee ML service", e);
-            return Collections.emptyList();
-        }
+    public Mono<List<AssigneeRecommendationResponse>> recommendAssignee(Task task, List<User> availableDevelopers) {
+        List<String> taskSkills = extractSkillsFromTask(task);
+        // --- Make sure DeveloperInfo class is public static in AssigneeRecommendationRequest.java ---
+        List<AssigneeRecommendationRequest.DeveloperInfo> developerInfos = availableDevelopers.stream()
+                .map(this::mapUserToDeveloperInfo)
+                .collect(Collectors.toList());
+
+        AssigneeRecommendationRequest request = AssigneeRecommendationRequest.builder()
+                .taskSkills(taskSkills)
+                .developers(developerInfos)
+                .build();
+
+        return mlWebClient.post()
+                .uri("/api/ml/recommend-assignee")
+                .bodyValue(request)
+                .header("Content-Type", "application/json")
+                .retrieve()
+                .bodyToMono(AssigneeRecommendationResponse[].class)
+                .timeout(CALL_TIMEOUT)
+                .map(List::of)
+                .onErrorResume(e -> {
+                    log.error("Failed to call recommend-assignee ML service", e);
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(Collections.emptyList());
     }
 
     /**
      * Generate task summary by calling external ML service.
      */
-    public String generateTaskSummary(String title, String description, String taskType) {
-        try {
-            MLSummaryRequest request = new MLSummaryRequest();
-            request.setTitle(title);
-            request.setDescription(description);
-            request.setTask_type(taskType);
-
-            MLSummaryResponse response = mlWebClient.post()
-                    .uri("/api/ml/generate-summary")
-                    .bodyValue(request)
-                    .header("Content-Type", "application/json")
-                    .retrieve()
-                    .bodyToMono(MLSummaryResponse.class)
-                    .block(Duration.ofSeconds(10));
-
-            return response != null && response.getSummary() != null ? response.getSummary() : title;
-        } catch (Exception e) {
-            log.error("Failed to call generate-summary ML service", e);
-            return title;
+    public Mono<String> generateTaskSummary(String title, String description, String taskType) {
+        MLSummaryRequest request = new MLSummaryRequest();
+        request.setTitle(title);
+        request.setDescription(description);
+        request.setTask_type(taskType);
+
+        return mlWebClient.post()
+                .uri("/api/ml/generate-summary")
+                .bodyValue(request)
+                .header("Content-Type", "application/json")
+                .retrieve()
+                .bodyToMono(MLSummaryResponse.class)
+                .timeout(CALL_TIMEOUT)
+                .mapNotNull(MLSummaryResponse::getSummary)
+                .onErrorResume(e -> {
+                    log.error("Failed to call generate-summary ML service", e);
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(title);
+    }
+
+    @Override
+    public void start() {
+        riskBatcher = Flux.<PendingRiskPrediction>create(sink -> riskRequests = sink)
+                .bufferTimeout(riskBatchMaxSize, riskBatchWindow)
+                .flatMap(this::sendRiskBatch)
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        FluxSink<PendingRiskPrediction> requests = riskRequests;
+        riskRequests = null;
+        // Completing sends the last partial batch; its callers are answered when it returns
+        if (requests != null) {
+            requests.complete();
         }
     }
 
+    @Override
+    public boolean isRunning() {
+        return riskBatcher != null && riskRequests != null;
+    }
+
+    // Closing the risk batcher sends its last partial batch; it must wait until the web server has
+    // drained, or a request still waiting for a prediction would find no batcher to join
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    /**
+     * Read the risk model version from the ML service's health endpoint.
+     * Predictions cached for an older version are dropped when it changes.
+     */
+    @Scheduled(fixedDelayString = "${flowdesk.ml.model-version-refresh:PT1M}")
+    public void refreshModelVersion() {
+        mlWebClient.get()
+                .uri("/health")
+                .retrieve()
+                .bodyToMono(MLHealthResponse.class)
+                .timeout(HEALTH_TIMEOUT)
+                .mapNotNull(MLHealthResponse::getModelVersion)
+                .subscribe(this::applyModelVersion,
+                        // The last known version stays in use; a new model is picked up once the service answers
+                        e -> log.warn("Failed to read ML model version: {}", e.getMessage()));
+    }
+
+    // Helper: switch to a newly reported model version
+    private synchronized void applyModelVersion(String version) {
+        if (version.equals(modelVersion)) {
+            return;
+        }
+
+        Cache cache = cacheManager.getCache(CacheConfig.RISK_PREDICTION_CACHE);
+        if (modelVersion != null && cache != null) {
+            cache.clear();
+        }
+        log.info("ML risk model version: {}", version);
+        modelVersion = version;
+    }
+
+    // Helper: hand a cache miss to the batching pipeline
+    private void enqueueRiskPrediction(RiskPredictionRequest features, MonoSink<RiskPredictionResponse> result) {
+        FluxSink<PendingRiskPrediction> requests = riskRequests;
+        if (requests == null) {
+            // Stopped: the caller gets the fallback
+            result.success();
+            return;
+        }
+        requests.next(new PendingRiskPrediction(UUID.randomUUID(), features, result));
+    }
+
+    // Helper: score one micro-batch and answer its callers; callers left without a prediction get the fallback
+    private Mono<Void> sendRiskBatch(List<PendingRiskPrediction> batch) {
+        riskBatchSize().record(batch.size());
+        BatchRiskPredictionRequest request = BatchRiskPredictionRequest.builder()
+                .tasks(batch.stream()
+                        .map(pending -> BatchRiskPredictionRequest.TaskFeatures.builder()
+                                .id(pending.id())
+                                .features(pending.features())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+
+        return mlWebClient.post()
+                .uri("/api/ml/predict-risk-batch")
+                .bodyValue(request)
+                .header("Content-Type", "application/json")
+                .retrieve()
+                .bodyToMono(BatchRiskPredictionResponse.class)
+                .timeout(CALL_TIMEOUT)
+                .doOnNext(response -> {
+                    Map<UUID, BatchRiskPredictionResponse.Prediction> predictions = response.getPredictions() == null
+                            ? Collections.emptyMap()
+                            : response.getPredictions().stream().collect(Collectors.toMap(
+                                    BatchRiskPredictionResponse.Prediction::getId, Function.identity(), (a, b) -> a));
+                    for (PendingRiskPrediction pending : batch) {
+                        BatchRiskPredictionResponse.Prediction prediction = predictions.get(pending.id());
+                        if (prediction != null) {
+                            pending.result().success(toRiskPredictionResponse(prediction));
+                        }
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("Failed to call predict-risk-batch ML service for {} waiting predictions", batch.size(), e);
+                    return Mono.empty();
+                })
+                // No effect on callers already answered or timed out
+                .doFinally(signal -> batch.forEach(pending -> pending.result().success()))
+                .then();
+    }
+
+    // Helper: batch prediction in the shape of a single predict-risk response
+    private RiskPredictionResponse toRiskPredictionResponse(BatchRiskPredictionResponse.Prediction prediction) {
+        RiskPredictionResponse response = new RiskPredictionResponse();
+        response.setRiskLevel(prediction.getRiskLevel());
+        // Truncated like the single endpoint's fractional score is when read into an Integer
+        response.setRiskScore(prediction.getRiskScore() != null ? prediction.getRiskScore().intValue() : null);
+        response.setProbabilities(prediction.getProbabilities());
+        response.setConfidence(prediction.getConfidence());
+        return response;
+    }
+
+    // Helper: callers answered per predict-risk-batch call
+    private DistributionSummary riskBatchSize() {
+        return DistributionSummary.builder(RISK_BATCH_SIZE_METRIC)
+                .description("Risk predictions sent per micro-batched ML service call")
+                .register(meterRegistry);
+    }
+
+    // Helper: remote predict-risk calls, the latency a cache hit avoids
+    private Timer riskLatency() {
+        return Timer.builder(RISK_LATENCY_METRIC)
+                .description("Latency of predict-risk calls to the ML service")
+                .register(meterRegistry);
+    }
+
+    // Helper: credit a cache hit with the mean latency of a remote call
+    private void recordSavedLatency() {
+        Counter.builder(RISK_SAVED_METRIC)
+                .description("Estimated ML service time saved by cached risk predictions")
+                .baseUnit("seconds")
+                .register(meterRegistry)
+                .increment(riskLatency().mean(TimeUnit.SECONDS));
+    }
+
+    // A predict-risk caller waiting for its batch; the id only pairs it with its prediction
+    private record PendingRiskPrediction(UUID id, RiskPredictionRequest features,
+                                         MonoSink<RiskPredictionResponse> result) {
+    }
+
+    // Cache key: the feature vector together with the model that scored it
+    private record RiskCacheKey(String modelVersion, RiskPredictionRequest features) {
+    }
+
+    // Helper: feature vector shared by single and batch predictions, so both score a task alike
+    private RiskPredictionRequest buildRiskFeatures(Integer estimatedHours, Integer storyPoints, UUID assignedUserId,
+                                                    TaskPriority priority, long numSubtasks, LocalDateTime createdAt) {
+        return RiskPredictionRequest.builder()
+                .estimatedHours(estimatedHours != null ? estimatedHours.doubleValue() : 0.0)
+                .storyPoints(storyPoints != null ? storyPoints : 0)
+                .developerWorkload(calculateDeveloperWorkload(assignedUserId))
+                .priority(convertPriority(priority))
+                .numSubtasks((int) numSubtasks)
+                .taskAgeDays(calculateTaskAgeDays(createdAt))
+                .build();
+    }
+
     // Helper: convert TaskPriority enum to ML int priority (1=HIGH,2=MEDIUM,3=LOW)
-    private int convertPriority(com.flowdesk.flowdesk_backend.model.enums.TaskPriority priority) {
+    private int convertPriority(TaskPriority priority) {
         if(priority == null) return 2; // Default MEDIUM
         switch(priority) {
             case HIGH: return 1;
@@ -123,16 +392,16 @@ public class MLServiceClient {
     }
 
     // Helper: calculate developer workload (dummy example, customize logic)
-    private double calculateDeveloperWorkload(User user) {
-        if(user == null) return 0.0;
+    private double calculateDeveloperWorkload(UUID userId) {
+        if(userId == null) return 0.0;
         // TODO: Implement workload calculation from user stats
         return 30.0;
     }
 
     // Helper: calculate task age in days
-    private int calculateTaskAgeDays(Task task) {
-        if(task.getCreatedAt() == null) return 0;
-        return (int) ChronoUnit.DAYS.between(task.getCreatedAt(), java.time.LocalDateTime.now());
+    private int calculateTaskAgeDays(LocalDateTime createdAt) {
+        if(createdAt == null) return 0;
+        return (int) ChronoUnit.DAYS.between(createdAt, LocalDateTime.now());
     }
 
     // Helper: extract task skills (dummy - change to business logic)
@@ -0,0 +1,280 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.dto.projection.TaskDependencyEdge;
+import com.flowdesk.flowdesk_backend.dto.projection.TaskScheduleNode;
+import com.flowdesk.flowdesk_backend.dto.response.CriticalPathResponse;
+import com.flowdesk.flowdesk_backend.dto.response.TaskScheduleResponse;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Dependency graph of one project with incrementally maintained schedule values
+ * Earliest starts flow downstream from blockers. The remaining chain length and the latest
+ * start allowed by due dates flow upstream from dependents, so neither depends on the project
+ * end and a change only recomputes the tasks downstream and upstream of it, in topological
+ * order. Latest starts against the project end are derived when the schedule is read.
+ * Not thread-safe; CriticalPathService guards each instance with its monitor.
+ */
+final class ProjectSchedule {
+
+    private static final int HOURS_PER_DAY = 8;
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final UUID projectId;
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private LocalDate startDate;
+    private boolean loaded;
+
+    ProjectSchedule(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Build the whole graph; due dates are measured from the given start date
+     */
+    void load(LocalDate startDate, List<TaskScheduleNode> tasks, List<TaskDependencyEdge> edges) {
+        this.startDate = startDate;
+        nodes.clear();
+        for (TaskScheduleNode task : tasks) {
+            node(task.getId()).update(task, startDate);
+        }
+        for (TaskDependencyEdge edge : edges) {
+            link(node(edge.getBlockedByTaskId()), node(edge.getTaskId()));
+        }
+
+        recompute(nodes.values(), nodes.values());
+        loaded = true;
+    }
+
+    /**
+     * Apply the current state of one task and its blockers
+     * Returns false, leaving the graph untouched, when the blockers would close a cycle;
+     * that only happens when changes arrive out of order and the caller should rebuild.
+     */
+    boolean put(TaskScheduleNode task, Collection<UUID> blockerIds) {
+        boolean created = !nodes.containsKey(task.getId());
+        Node node = node(task.getId());
+
+        Set<Node> blockers = blockerIds.stream()
+                .map(this::node)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Node> added = new LinkedHashSet<>(blockers);
+        added.removeAll(node.blockers);
+        Set<Node> removed = new LinkedHashSet<>(node.blockers);
+        removed.removeAll(blockers);
+
+        for (Node blocker : added) {
+            if (blocker == node || reaches(node, blocker)) {
+                return false;
+            }
+        }
+
+        int previousDuration = node.duration;
+        int previousDeadline = node.deadline;
+        node.update(task, startDate);
+        removed.forEach(blocker -> unlink(blocker, node));
+        added.forEach(blocker -> link(blocker, node));
+
+        boolean durationChanged = created || node.duration != previousDuration;
+        boolean deadlineChanged = node.deadline != previousDeadline;
+
+        Set<Node> downstream = new LinkedHashSet<>();
+        Set<Node> upstream = new LinkedHashSet<>();
+        if (durationChanged || !added.isEmpty() || !removed.isEmpty()) {
+            downstream.add(node);
+        }
+        if (durationChanged || deadlineChanged) {
+            upstream.add(node);
+        }
+        upstream.addAll(added);
+        upstream.addAll(removed);
+
+        recompute(downstream, upstream);
+        return true;
+    }
+
+    CriticalPathResponse toResponse() {
+        int end = 0;
+        for (Node node : nodes.values()) {
+            end = Math.max(end, node.earliestStart + node.duration);
+        }
+
+        List<TaskScheduleResponse> tasks = new ArrayList<>(nodes.size());
+        int minSlack = UNBOUNDED;
+        for (Node node : nodes.values()) {
+            int latestStart = Math.min(end - node.tail, node.deadlineStart);
+            int slack = latestStart - node.earliestStart;
+            minSlack = Math.min(minSlack, slack);
+            tasks.add(TaskScheduleResponse.builder()
+                    .taskId(node.id)
+                    .title(node.title)
+                    .dueDate(node.dueDate)
+                    .durationDays(node.duration)
+                    .earliestStart(node.earliestStart)
+                    .earliestFinish(node.earliestStart + node.duration)
+                    .latestStart(latestStart)
+                    .latestFinish(latestStart + node.duration)
+                    .slack(slack)
+                    .blockedByTaskIds(node.blockers.stream().map(blocker -> blocker.id).collect(Collectors.toList()))
+                    .build());
+        }
+
+        for (TaskScheduleResponse task : tasks) {
+            task.setCritical(task.getSlack() == minSlack);
+        }
+        tasks.sort(Comparator.comparing(TaskScheduleResponse::getEarliestStart)
+                .thenComparing(TaskScheduleResponse::getLatestStart)
+                .thenComparing(TaskScheduleResponse::getTaskId));
+
+        return CriticalPathResponse.builder()
+                .projectId(projectId)
+                .startDate(startDate)
+                .durationDays(end)
+                .projectedEndDate(startDate.plusDays(end))
+                .criticalPath(tasks.stream()
+                        .filter(TaskScheduleResponse::getCritical)
+                        .map(TaskScheduleResponse::getTaskId)
+                        .collect(Collectors.toList()))
+                .tasks(tasks)
+                .build();
+    }
+
+    // Helper methods
+
+    private Node node(UUID taskId) {
+        return nodes.computeIfAbsent(taskId, Node::new);
+    }
+
+    private static void link(Node blocker, Node task) {
+        blocker.dependents.add(task);
+        task.blockers.add(blocker);
+    }
+
+    private static void unlink(Node blocker, Node task) {
+        blocker.dependents.remove(task);
+        task.blockers.remove(blocker);
+    }
+
+    private static boolean reaches(Node from, Node target) {
+        return topologicalOrder(List.of(from), true).contains(target);
+    }
+
+    private static void recompute(Collection<Node> downstreamOf, Collection<Node> upstreamOf) {
+        // Blockers come first, so every blocker outside the walk is already current
+        for (Node node : topologicalOrder(downstreamOf, true)) {
+            int earliestStart = 0;
+            for (Node blocker : node.blockers) {
+                earliestStart = Math.max(earliestStart, blocker.earliestStart + blocker.duration);
+            }
+            node.earliestStart = earliestStart;
+        }
+
+        // Dependents come first
+        for (Node node : topologicalOrder(upstreamOf, false)) {
+            int tail = 0;
+            int latestFinish = node.deadline;
+            for (Node dependent : node.dependents) {
+                tail = Math.max(tail, dependent.tail);
+                latestFinish = Math.min(latestFinish, dependent.deadlineStart);
+            }
+            node.tail = node.duration + tail;
+            node.deadlineStart = latestFinish == UNBOUNDED ? UNBOUNDED : latestFinish - node.duration;
+        }
+    }
+
+    /**
+     * Nodes reachable from the seeds, each before the nodes it leads to
+     * Iterative depth-first walk so long dependency chains cannot overflow the stack.
+     */
+    private static List<Node> topologicalOrder(Collection<Node> seeds, boolean downstream) {
+        List<Node> postOrder = new ArrayList<>();
+        Set<Node> visited = new HashSet<>();
+        Deque<Node> path = new ArrayDeque<>();
+        Deque<Iterator<Node>> pending = new ArrayDeque<>();
+
+        for (Node seed : seeds) {
+            if (!visited.add(seed)) {
+                continue;
+            }
+            path.push(seed);
+            pending.push(seed.next(downstream));
+            while (!path.isEmpty()) {
+                Iterator<Node> next = pending.peek();
+                if (next.hasNext()) {
+                    Node node = next.next();
+                    if (visited.add(node)) {
+                        path.push(node);
+                        pending.push(node.next(downstream));
+                    }
+                } else {
+                    pending.pop();
+                    postOrder.add(path.pop());
+                }
+            }
+        }
+
+        Collections.reverse(postOrder);
+        return postOrder;
+    }
+
+    private static final class Node {
+        private final UUID id;
+        private final Set<Node> blockers = new LinkedHashSet<>();
+        private final Set<Node> dependents = new LinkedHashSet<>();
+        private String title;
+        private LocalDate dueDate;
+
+        // A blocker that has not been applied yet takes no time until it is
+        private int duration;
+        private int deadline = UNBOUNDED;
+
+        private int earliestStart;
+        // Longest chain of work from this task's start through its dependents
+        private int tail;
+        // Latest start that still meets every due date on or after this task
+        private int deadlineStart = UNBOUNDED;
+
+        private Node(UUID id) {
+            this.id = id;
+        }
+
+        private void update(TaskScheduleNode task, LocalDate startDate) {
+            title = task.getTitle();
+            dueDate = task.getDueDate();
+
+            // Completed work no longer takes time or holds a deadline; an unestimated task counts as a day
+            boolean done = task.getStatus() == TaskStatus.DONE;
+            Integer hours = task.getEstimatedHours();
+            duration = done ? 0 : hours == null ? 1 : Math.max(1, (hours + HOURS_PER_DAY - 1) / HOURS_PER_DAY);
+            // Due dates are inclusive: the task must finish by the end of that day
+            deadline = done || dueDate == null
+                    ? UNBOUNDED
+                    : (int) ChronoUnit.DAYS.between(startDate, dueDate) + 1;
+        }
+
+        private Iterator<Node> next(boolean downstream) {
+            return downstream ? dependents.iterator() : blockers.iterator();
+        }
+    }
+}
@@ -1,28 +1,39 @@
 package com.flowdesk.flowdesk_backend.service;
 
+import com.flowdesk.flowdesk_backend.dto.projection.ProjectRiskCounts;
+import com.flowdesk.flowdesk_backend.dto.projection.ProjectStoryPoints;
+import com.flowdesk.flowdesk_backend.dto.projection.ProjectVersion;
+import com.flowdesk.flowdesk_backend.dto.projection.TaskSetVersion;
 import com.flowdesk.flowdesk_backend.dto.request.CreateProjectRequest;
 import com.flowdesk.flowdesk_backend.dto.request.UpdateProjectRequest;
 import com.flowdesk.flowdesk_backend.dto.response.ProjectProgressResponse;
 import com.flowdesk.flowdesk_backend.dto.response.ProjectResponse;
 import com.flowdesk.flowdesk_backend.dto.response.TeamResponse;
 import com.flowdesk.flowdesk_backend.dto.response.UserResponse;
+import com.flowdesk.flowdesk_backend.event.ProjectChangedEvent;
 import com.flowdesk.flowdesk_backend.model.Project;
-import com.flowdesk.flowdesk_backend.model.Task;
 import com.flowdesk.flowdesk_backend.model.Team;
 import com.flowdesk.flowdesk_backend.model.User;
 import com.flowdesk.flowdesk_backend.model.enums.ProjectStatus;
 import com.flowdesk.flowdesk_backend.model.enums.RiskLevel;
 import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
 import com.flowdesk.flowdesk_backend.repository.ProjectRepository;
+import com.flowdesk.flowdesk_backend.repository.SparseQueryRepository;
 import com.flowdesk.flowdesk_backend.repository.TaskRepository;
 import com.flowdesk.flowdesk_backend.repository.TeamRepository;
 import com.flowdesk.flowdesk_backend.repository.UserRepository;
+import com.flowdesk.flowdesk_backend.util.ETagUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -32,9 +43,43 @@ import java.util.stream.Collectors;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final ProjectStoryPointService projectStoryPointService;
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SparseQueryRepository sparseQueryRepository;
+
+    // Fields selectable with ?fields= on project listings; story point fields come from the counter slots
+    private static final SparseFieldSet<ProjectResponse> PROJECT_FIELDS = new SparseFieldSet<>(ProjectResponse::new)
+            .field("id", ProjectResponse::setId)
+            .field("name", ProjectResponse::setName)
+            .field("description", ProjectResponse::setDescription)
+            .nested("team", "team", List.of("id", "name", "description"),
+                    column -> TeamResponse.builder()
+                            .id((UUID) column.apply("id"))
+                            .name((String) column.apply("name"))
+                            .description((String) column.apply("description"))
+                            .build(),
+                    ProjectResponse::setTeam)
+            .nested("manager", "manager", List.of("id", "email", "firstName", "lastName", "role"),
+                    column -> UserResponse.builder()
+                            .id((UUID) column.apply("id"))
+                            .email((String) column.apply("email"))
+                            .firstName((String) column.apply("firstName"))
+                            .lastName((String) column.apply("lastName"))
+                            .role((UserRole) column.apply("role"))
+                            .build(),
+                    ProjectResponse::setManager)
+            .field("status", ProjectResponse::setStatus)
+            .field("startDate", ProjectResponse::setStartDate)
+            .field("endDate", ProjectResponse::setEndDate)
+            .field("githubRepoUrl", ProjectResponse::setGithubRepoUrl)
+            .derived("totalStoryPoints")
+            .derived("completedStoryPoints")
+            .derived("completionPercentage")
+            .field("riskLevel", ProjectResponse::setRiskLevel)
+            .field("createdAt", ProjectResponse::setCreatedAt);
 
     /**
      * Create a new project
@@ -63,9 +108,12 @@ public class ProjectService {
         project.setCompletedStoryPoints(0);
 
         Project savedProject = projectRepository.save(project);
+        projectStoryPointService.createSlots(savedProject);
         log.info("Project created successfully: {}", savedProject.getName());
 
-        return mapToProjectResponse(savedProject);
+        eventPublisher.publishEvent(new ProjectChangedEvent(savedProject.getId(), managerId));
+
+        return mapToProjectResponse(savedProject, projectStoryPointService.getStoryPoints(savedProject.getId()));
     }
 
     /**
@@ -76,19 +124,44 @@ public class ProjectService {
         log.info("Fetching project with id: {}", id);
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
-        return mapToProjectResponse(project);
+        return mapToProjectResponse(project, projectStoryPointService.getStoryPoints(id));
+    }
+
+    /**
+     * Get the entity tag of a project without loading it
+     */
+    @Transactional(readOnly = true)
+    public String getProjectETag(UUID id) {
+        ProjectVersion version = findVersion(id);
+        return ETagUtils.weak("project", id, version.getUpdatedAt(), version.getTeamUpdatedAt(),
+                version.getManagerUpdatedAt(), version.getTotalStoryPoints(), version.getCompletedStoryPoints());
+    }
+
+    /**
+     * Get the entity tag of a project's progress without counting its tasks by status
+     * Every status change touches a task's updatedAt, so count and latest update version the counts
+     */
+    @Transactional(readOnly = true)
+    public String getProjectProgressETag(UUID id) {
+        ProjectVersion version = findVersion(id);
+        TaskSetVersion tasks = taskRepository.findVersionByProjectId(id);
+        return ETagUtils.weak("progress", id, version.getTotalStoryPoints(), version.getCompletedStoryPoints(),
+                tasks.getTaskCount(), tasks.getLastUpdatedAt());
     }
 
     /**
      * Get all projects managed by a specific manager
+     * With fields set, only those columns are selected and returned
      */
     @Transactional(readOnly = true)
-    public List<ProjectResponse> getProjectsByManager(UUID managerId) {
+    public List<ProjectResponse> getProjectsByManager(UUID managerId, String fields) {
         log.info("Fetching projects for manager: {}", managerId);
+        SparseFieldSet.Selection selection = PROJECT_FIELDS.select(fields);
+        if (selection != null) {
+            return getSparseProjects(selection, (root, query, cb) -> cb.equal(root.get("manager").get("id"), managerId));
+        }
         List<Project> projects = projectRepository.findByManagerId(managerId);
-        return projects.stream()
-                .map(this::mapToProjectResponse)
-                .collect(Collectors.toList());
+        return mapToProjectResponses(projects);
     }
 
     /**
@@ -98,9 +171,7 @@ public class ProjectService {
     public List<ProjectResponse> getProjectsByTeam(UUID teamId) {
         log.info("Fetching projects for team: {}", teamId);
         List<Project> projects = projectRepository.findByTeamId(teamId);
-        return projects.stream()
-                .map(this::mapToProjectResponse)
-                .collect(Collectors.toList());
+        return mapToProjectResponses(projects);
     }
 
     /**
@@ -135,7 +206,9 @@ public class ProjectService {
         Project updatedProject = projectRepository.save(project);
         log.info("Project updated successfully: {}", updatedProject.getName());
 
-        return mapToProjectResponse(updatedProject);
+        eventPublisher.publishEvent(new ProjectChangedEvent(updatedProject.getId(), updatedProject.getManager().getId()));
+
+        return mapToProjectResponse(updatedProject, projectStoryPointService.getStoryPoints(updatedProject.getId()));
     }
 
     /**
@@ -145,11 +218,12 @@ public class ProjectService {
     public ProjectProgressResponse getProjectProgress(UUID projectId) {
         log.info("Fetching progress for project: {}", projectId);
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+        ProjectStoryPoints storyPoints = projectStoryPointService.getStoryPoints(projectId);
 
-        long totalTasks = taskRepository.countByProjectId(projectId);
-        long completedTasks = taskRepository.countByProjectIdAndStatus(projectId, TaskStatus.DONE);
+        // Archived tasks are long DONE and stay in the story point totals, so they count here too
+        long archivedTasks = taskRepository.countArchivedByProjectId(projectId);
+        long totalTasks = taskRepository.countByProjectId(projectId) + archivedTasks;
+        long completedTasks = taskRepository.countByProjectIdAndStatus(projectId, TaskStatus.DONE) + archivedTasks;
 
         double completionPercentage = totalTasks > 0
                 ? (completedTasks * 100.0) / totalTasks
@@ -158,8 +232,8 @@ public class ProjectService {
         return ProjectProgressResponse.builder()
                 .totalTasks((int) totalTasks)
                 .completedTasks((int) completedTasks)
-                .totalStoryPoints(project.getTotalStoryPoints())
-                .completedStoryPoints(project.getCompletedStoryPoints())
+                .totalStoryPoints(storyPoints.getTotalStoryPoints().intValue())
+                .completedStoryPoints(storyPoints.getCompletedStoryPoints().intValue())
                 .completionPercentage(Math.round(completionPercentage * 100.0) / 100.0)
                 .build();
     }
@@ -174,24 +248,19 @@ public class ProjectService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
 
-        List<Task> tasks = taskRepository.findByProjectId(projectId);
-
-        // Count high-risk tasks
-        long highRiskCount = tasks.stream()
-                .filter(task -> task.getRiskLevel() == RiskLevel.HIGH)
-                .count();
-
-        long mediumRiskCount = tasks.stream()
-                .filter(task -> task.getRiskLevel() == RiskLevel.MEDIUM)
-                .count();
+        ProjectRiskCounts counts = taskRepository.countRiskLevelsByProjectId(
+                projectId, RiskLevel.HIGH, RiskLevel.MEDIUM);
+        long taskCount = counts.getTotalTasks();
+        long highRiskCount = counts.getHighRiskTasks() != null ? counts.getHighRiskTasks() : 0;
+        long mediumRiskCount = counts.getMediumRiskTasks() != null ? counts.getMediumRiskTasks() : 0;
 
         // Determine project risk level
         RiskLevel projectRisk;
-        if (tasks.isEmpty()) {
+        if (taskCount == 0) {
             projectRisk = RiskLevel.LOW;
-        } else if (highRiskCount > tasks.size() * 0.3) {
+        } else if (highRiskCount > taskCount * 0.3) {
             projectRisk = RiskLevel.HIGH;
-        } else if ((highRiskCount + mediumRiskCount) > tasks.size() * 0.5) {
+        } else if ((highRiskCount + mediumRiskCount) > taskCount * 0.5) {
             projectRisk = RiskLevel.MEDIUM;
         } else {
             projectRisk = RiskLevel.LOW;
@@ -205,10 +274,52 @@ public class ProjectService {
 
     // Helper methods
 
-    private ProjectResponse mapToProjectResponse(Project project) {
-        double completionPercentage = project.getTotalStoryPoints() > 0
-                ? (project.getCompletedStoryPoints() * 100.0) / project.getTotalStoryPoints()
-                : 0.0;
+    private List<ProjectResponse> getSparseProjects(SparseFieldSet.Selection selection, Specification<Project> filter) {
+        List<ProjectResponse> projects = PROJECT_FIELDS.map(
+                sparseQueryRepository.findAll(Project.class, selection.paths(), filter, Sort.unsorted()), selection);
+
+        boolean total = selection.includes("totalStoryPoints");
+        boolean completed = selection.includes("completedStoryPoints");
+        boolean percentage = selection.includes("completionPercentage");
+        if (!total && !completed && !percentage) {
+            return projects;
+        }
+
+        Map<UUID, ProjectStoryPoints> storyPoints = projectStoryPointService.getStoryPoints(
+                projects.stream().map(ProjectResponse::getId).collect(Collectors.toList()));
+        for (ProjectResponse project : projects) {
+            ProjectStoryPoints points = storyPoints.get(project.getId());
+            int totalStoryPoints = points.getTotalStoryPoints().intValue();
+            int completedStoryPoints = points.getCompletedStoryPoints().intValue();
+            if (total) {
+                project.setTotalStoryPoints(totalStoryPoints);
+            }
+            if (completed) {
+                project.setCompletedStoryPoints(completedStoryPoints);
+            }
+            if (percentage) {
+                project.setCompletionPercentage(completionPercentage(totalStoryPoints, completedStoryPoints));
+            }
+        }
+        return projects;
+    }
+
+    private List<ProjectResponse> mapToProjectResponses(List<Project> projects) {
+        Map<UUID, ProjectStoryPoints> storyPoints = projectStoryPointService.getStoryPoints(
+                projects.stream().map(Project::getId).collect(Collectors.toList()));
+        return projects.stream()
+                .map(project -> mapToProjectResponse(project, storyPoints.get(project.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private ProjectVersion findVersion(UUID id) {
+        return projectRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
+    }
+
+    private ProjectResponse mapToProjectResponse(Project project, ProjectStoryPoints storyPoints) {
+        int totalStoryPoints = storyPoints.getTotalStoryPoints().intValue();
+        int completedStoryPoints = storyPoints.getCompletedStoryPoints().intValue();
 
         return ProjectResponse.builder()
                 .id(project.getId())
@@ -220,14 +331,21 @@ public class ProjectService {
                 .startDate(project.getStartDate())
                 .endDate(project.getEndDate())
                 .githubRepoUrl(project.getGithubRepoUrl())
-                .totalStoryPoints(project.getTotalStoryPoints())
-                .completedStoryPoints(project.getCompletedStoryPoints())
-                .completionPercentage(Math.round(completionPercentage * 100.0) / 100.0)
+                .totalStoryPoints(totalStoryPoints)
+                .completedStoryPoints(completedStoryPoints)
+                .completionPercentage(completionPercentage(totalStoryPoints, completedStoryPoints))
                 .riskLevel(project.getRiskLevel())
                 .createdAt(project.getCreatedAt())
                 .build();
     }
 
+    private static double completionPercentage(int totalStoryPoints, int completedStoryPoints) {
+        double completionPercentage = totalStoryPoints > 0
+                ? (completedStoryPoints * 100.0) / totalStoryPoints
+                : 0.0;
+        return Math.round(completionPercentage * 100.0) / 100.0;
+    }
+
     private TeamResponse mapToTeamResponse(Team team) {
         return TeamResponse.builder()
                 .id(team.getId())
@@ -0,0 +1,157 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.dto.projection.ProjectStoryPoints;
+import com.flowdesk.flowdesk_backend.model.Project;
+import com.flowdesk.flowdesk_backend.model.ProjectStoryPointSlot;
+import com.flowdesk.flowdesk_backend.repository.ProjectRepository;
+import com.flowdesk.flowdesk_backend.repository.ProjectStoryPointSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Project story point counters
+ * Spreads increments over a fixed number of slot rows per project so concurrent task
+ * completions do not queue on the projects row lock. Readers add the slots to the
+ * project's base values; a scheduled compaction folds the slots back into the base.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectStoryPointService {
+
+    private final ProjectStoryPointSlotRepository slotRepository;
+    private final ProjectRepository projectRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${flowdesk.projects.story-point-slots:16}")
+    private int slotCount;
+
+    /**
+     * Create the counter slots of a project
+     */
+    public void createSlots(Project project) {
+        List<ProjectStoryPointSlot> slots = IntStream.range(0, slotCount)
+                .mapToObj(slot -> new ProjectStoryPointSlot(null, project, slot, 0, 0))
+                .collect(Collectors.toList());
+        slotRepository.saveAll(slots);
+    }
+
+    /**
+     * Add to a project's total story points
+     */
+    public void addTotalStoryPoints(UUID projectId, int delta) {
+        addStoryPoints(projectId, delta, 0);
+    }
+
+    /**
+     * Add to a project's completed story points
+     */
+    public void addCompletedStoryPoints(UUID projectId, int delta) {
+        addStoryPoints(projectId, 0, delta);
+    }
+
+    /**
+     * Add to a project's total and completed story points together
+     * Both land on the same slot: a transaction holding two slot rows could deadlock against
+     * another one taking them the other way round, or against the compaction locking them all.
+     */
+    public void addStoryPoints(UUID projectId, int totalDelta, int completedDelta) {
+        if ((totalDelta != 0 || completedDelta != 0)
+                && slotRepository.addStoryPoints(projectId, randomSlot(), totalDelta, completedDelta) == 0) {
+            // Slots not created yet; the compaction job backfills them
+            if (totalDelta != 0) {
+                projectRepository.addTotalStoryPoints(projectId, totalDelta);
+            }
+            if (completedDelta != 0) {
+                projectRepository.addCompletedStoryPoints(projectId, completedDelta);
+            }
+        }
+    }
+
+    /**
+     * Get current story point totals of one project
+     */
+    public ProjectStoryPoints getStoryPoints(UUID projectId) {
+        return slotRepository.sumByProjectIds(List.of(projectId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+    }
+
+    /**
+     * Get current story point totals of several projects, keyed by project id
+     */
+    public Map<UUID, ProjectStoryPoints> getStoryPoints(Collection<UUID> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+        return slotRepository.sumByProjectIds(projectIds).stream()
+                .collect(Collectors.toMap(ProjectStoryPoints::getProjectId, Function.identity()));
+    }
+
+    /**
+     * Fold pending slot values into the project rows and create slots for projects without them
+     */
+    @Scheduled(fixedDelayString = "${flowdesk.projects.story-point-compaction-interval:PT1M}")
+    public void compact() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        for (UUID projectId : slotRepository.findProjectIdsWithoutSlots()) {
+            try {
+                transaction.executeWithoutResult(status -> createSlots(projectRepository.getReferenceById(projectId)));
+            } catch (RuntimeException e) {
+                // Another instance may have created them first
+                log.warn("Failed to create story point slots for project: {}", projectId, e);
+            }
+        }
+
+        for (UUID projectId : slotRepository.findProjectIdsWithPendingPoints()) {
+            try {
+                transaction.executeWithoutResult(status -> fold(projectId));
+            } catch (RuntimeException e) {
+                log.error("Failed to compact story point slots for project: {}", projectId, e);
+            }
+        }
+    }
+
+    // Helper methods
+
+    private void fold(UUID projectId) {
+        // Locks every slot so the base update and the reset are seen together
+        List<ProjectStoryPointSlot> slots = slotRepository.lockByProjectId(projectId);
+
+        int total = 0;
+        int completed = 0;
+        for (ProjectStoryPointSlot slot : slots) {
+            total += slot.getTotalStoryPoints();
+            completed += slot.getCompletedStoryPoints();
+            slot.setTotalStoryPoints(0);
+            slot.setCompletedStoryPoints(0);
+        }
+
+        if (total != 0) {
+            projectRepository.addTotalStoryPoints(projectId, total);
+        }
+        if (completed != 0) {
+            projectRepository.addCompletedStoryPoints(projectId, completed);
+        }
+        log.debug("Compacted story point slots for project: {} (total {}, completed {})", projectId, total, completed);
+    }
+
+    private int randomSlot() {
+        return ThreadLocalRandom.current().nextInt(slotCount);
+    }
+}
@@ -0,0 +1,99 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.dto.projection.SearchHit;
+import com.flowdesk.flowdesk_backend.dto.response.SearchHitResponse;
+import com.flowdesk.flowdesk_backend.dto.response.SearchResponse;
+import com.flowdesk.flowdesk_backend.exception.BadRequestException;
+import com.flowdesk.flowdesk_backend.model.enums.SearchHitType;
+import com.flowdesk.flowdesk_backend.repository.SearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Search Service
+ * Ranked full-text search over tasks, comments and projects
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService {
+
+    private final SearchRepository searchRepository;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    // ts_headline does not escape the document, so matches are delimited with control
+    // characters and turned into <mark> only after the snippet has been HTML-escaped
+    private static final String START_SEL = "\u0001";
+    private static final String STOP_SEL = "\u0002";
+    private static final String HEADLINE_OPTIONS = "StartSel=" + START_SEL + ", StopSel=" + STOP_SEL
+            + ", MaxFragments=2, MaxWords=25, MinWords=8, FragmentDelimiter=\" ... \"";
+
+    /**
+     * Search tasks, comments and projects, best matches first
+     */
+    @Transactional(readOnly = true)
+    public SearchResponse search(String query, int page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query cannot be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query cannot exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (page < 0) {
+            throw new BadRequestException("Page cannot be negative");
+        }
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String trimmed = query.trim();
+
+        log.info("Searching for: {} (page {}, size {})", trimmed, page, pageSize);
+
+        // One extra row tells whether another page exists without a count query
+        List<SearchHit> rows = searchRepository.search(trimmed, HEADLINE_OPTIONS, pageSize + 1, page * pageSize);
+        boolean hasMore = rows.size() > pageSize;
+
+        List<SearchHitResponse> hits = rows.stream()
+                .limit(pageSize)
+                .map(this::mapToSearchHitResponse)
+                .collect(Collectors.toList());
+
+        return SearchResponse.builder()
+                .query(trimmed)
+                .page(page)
+                .size(pageSize)
+                .hasMore(hasMore)
+                .hits(hits)
+                .build();
+    }
+
+    // Helper methods
+
+    private SearchHitResponse mapToSearchHitResponse(SearchHit hit) {
+        return SearchHitResponse.builder()
+                .type(SearchHitType.valueOf(hit.getType()))
+                .id(hit.getId())
+                .projectId(hit.getProjectId())
+                .taskId(hit.getTaskId())
+                .title(hit.getTitle())
+                .snippet(highlight(hit.getSnippet()))
+                .rank(hit.getRank())
+                .build();
+    }
+
+    private String highlight(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(snippet)
+                .replace(START_SEL, "<mark>")
+                .replace(STOP_SEL, "</mark>");
+    }
+}
@@ -0,0 +1,134 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.exception.BadRequestException;
+import com.flowdesk.flowdesk_backend.repository.SparseQueryRepository;
+import jakarta.persistence.Tuple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset of a response type
+ * Maps the names accepted in ?fields= to the entity attribute paths they read and fills
+ * a response with only those values; unselected properties stay null and are left out
+ * of the JSON by the response's NON_NULL inclusion. The id is always selected.
+ */
+final class SparseFieldSet<R> {
+
+    private static final String ID = "id";
+
+    private final Supplier<R> factory;
+    private final Map<String, Field<R>> fields = new LinkedHashMap<>();
+
+    SparseFieldSet(Supplier<R> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Field read from the entity attribute of the same name
+     */
+    <V> SparseFieldSet<R> field(String name, BiConsumer<R, V> setter) {
+        return field(name, name, setter);
+    }
+
+    /**
+     * Field read from an attribute path
+     */
+    @SuppressWarnings("unchecked")
+    <V> SparseFieldSet<R> field(String name, String path, BiConsumer<R, V> setter) {
+        String alias = SparseQueryRepository.alias(path);
+        fields.put(name, new Field<>(List.of(path), (response, row) -> setter.accept(response, (V) row.get(alias))));
+        return this;
+    }
+
+    /**
+     * Nested object built from several attributes of an association; null when the association is
+     */
+    <V> SparseFieldSet<R> nested(String name, String association, List<String> attributes,
+                                 Function<Function<String, Object>, V> builder, BiConsumer<R, V> setter) {
+        List<String> paths = attributes.stream()
+                .map(attribute -> association + "." + attribute)
+                .collect(Collectors.toList());
+        fields.put(name, new Field<>(paths, (response, row) -> {
+            Function<String, Object> value = attribute -> row.get(SparseQueryRepository.alias(association + "." + attribute));
+            setter.accept(response, value.apply(ID) != null ? builder.apply(value) : null);
+        }));
+        return this;
+    }
+
+    /**
+     * Field computed by the service after the query, such as aggregated story points
+     */
+    SparseFieldSet<R> derived(String name) {
+        fields.put(name, new Field<>(List.of(), (response, row) -> { }));
+        return this;
+    }
+
+    /**
+     * Parse a ?fields= value; null when absent so callers serve the full response
+     */
+    Selection select(String fieldsParam) {
+        if (fieldsParam == null || fieldsParam.isBlank()) {
+            return null;
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        names.add(ID);
+        Arrays.stream(fieldsParam.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .forEach(names::add);
+
+        List<String> unknown = names.stream()
+                .filter(name -> !fields.containsKey(name))
+                .collect(Collectors.toList());
+        if (!unknown.isEmpty()) {
+            throw new BadRequestException("Unknown fields " + unknown + "; allowed: " + fields.keySet());
+        }
+
+        List<String> paths = names.stream()
+                .flatMap(name -> fields.get(name).paths().stream())
+                .distinct()
+                .collect(Collectors.toList());
+        return new Selection(names, paths);
+    }
+
+    /**
+     * Build a partially filled response from one tuple row
+     */
+    R map(Tuple row, Selection selection) {
+        R response = factory.get();
+        for (String name : selection.names()) {
+            fields.get(name).reader().accept(response, row);
+        }
+        return response;
+    }
+
+    List<R> map(List<Tuple> rows, Selection selection) {
+        List<R> responses = new ArrayList<>(rows.size());
+        rows.forEach(row -> responses.add(map(row, selection)));
+        return responses;
+    }
+
+    /**
+     * Requested field names and the attribute paths they select
+     */
+    record Selection(Set<String> names, List<String> paths) {
+
+        boolean includes(String name) {
+            return names.contains(name);
+        }
+    }
+
+    private record Field<R>(List<String> paths, BiConsumer<R, Tuple> reader) {
+    }
+}
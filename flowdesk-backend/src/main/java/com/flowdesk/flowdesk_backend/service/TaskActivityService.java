@@ -2,7 +2,7 @@ package com.flowdesk.flowdesk_backend.service;
 
 import com.flowdesk.flowdesk_backend.dto.response.TaskActivityResponse;
 import com.flowdesk.flowdesk_backend.dto.response.UserResponse;
-import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.event.TaskActivityEvent;
 import com.flowdesk.flowdesk_backend.model.TaskActivity;
 import com.flowdesk.flowdesk_backend.model.User;
 import com.flowdesk.flowdesk_backend.model.enums.ActivityType;
@@ -12,51 +12,81 @@ import com.flowdesk.flowdesk_backend.repository.TaskRepository;
 import com.flowdesk.flowdesk_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+/**
+ * Task activity log
+ * Activities are queued once the transaction that produced them commits and a background
+ * writer inserts them in batches, so mutations do not pay for the audit inserts. When the
+ * queue is full the committing thread writes its own activity, which slows producers down
+ * to the writer's pace instead of dropping records. The queue is flushed on shutdown.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class TaskActivityService {
+public class TaskActivityService implements SmartLifecycle {
 
     private final TaskActivityRepository taskActivityRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${flowdesk.activity.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${flowdesk.activity.batch-size:500}")
+    private int batchSize;
+
+    @Value("${flowdesk.activity.enqueue-timeout:PT0.1S}")
+    private Duration enqueueTimeout;
+
+    @Value("${flowdesk.activity.shutdown-timeout:PT30S}")
+    private Duration shutdownTimeout;
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
+    private volatile BlockingQueue<TaskActivityEvent> queue;
+    private volatile boolean running;
+    private Thread writer;
 
     /**
      * Log a generic task activity
      */
-    @Transactional
-    public TaskActivityResponse logActivity(
+    public void logActivity(
             UUID taskId,
             UUID userId,
             ActivityType type,
             String description) {
 
-        log.info("Logging activity for task: {} by user: {} - Type: {}", taskId, userId, type);
-
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-
-        TaskActivity activity = new TaskActivity();
-        activity.setTask(task);
-        activity.setUser(user);
-        activity.setActivityType(type);
-        activity.setDescription(description);
-
-        TaskActivity savedActivity = taskActivityRepository.save(activity);
-        log.debug("Activity logged successfully: {}", description);
-
-        return mapToTaskActivityResponse(savedActivity);
+        log.debug("Logging activity for task: {} by user: {} - Type: {}", taskId, userId, type);
+        eventPublisher.publishEvent(TaskActivityEvent.builder()
+                .taskId(taskId)
+                .userId(userId)
+                .activityType(type)
+                .description(description)
+                .build());
     }
 
     /**
@@ -81,86 +111,205 @@ public class TaskActivityService {
     /**
      * Log task creation activity
      */
-    @Transactional
     public void logTaskCreated(UUID taskId, UUID userId) {
-        log.info("Logging task creation for task: {} by user: {}", taskId, userId);
-
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-
-        String description = String.format("%s %s created this task",
-                user.getFirstName(), user.getLastName());
-
-        logActivity(taskId, userId, ActivityType.CREATED, description);
+        log.debug("Logging task creation for task: {} by user: {}", taskId, userId);
+        eventPublisher.publishEvent(TaskActivityEvent.builder()
+                .taskId(taskId)
+                .userId(userId)
+                .activityType(ActivityType.CREATED)
+                .build());
     }
 
     /**
      * Log task assignment activity
      */
-    @Transactional
     public void logTaskAssigned(UUID taskId, UUID userId, UUID assignedToId) {
-        log.info("Logging task assignment for task: {} to user: {}", taskId, assignedToId);
-
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
-
-        User assigner = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-
-        User assignedTo = userRepository.findById(assignedToId)
-                .orElseThrow(() -> new RuntimeException("Assigned user not found with id: " + assignedToId));
-
-        String description = String.format("%s %s assigned this task to %s %s",
-                assigner.getFirstName(), assigner.getLastName(),
-                assignedTo.getFirstName(), assignedTo.getLastName());
-
-        logActivity(taskId, userId, ActivityType.ASSIGNED, description);
+        log.debug("Logging task assignment for task: {} to user: {}", taskId, assignedToId);
+        eventPublisher.publishEvent(TaskActivityEvent.builder()
+                .taskId(taskId)
+                .userId(userId)
+                .activityType(ActivityType.ASSIGNED)
+                .assignedToUserId(assignedToId)
+                .build());
     }
 
     /**
      * Log task status change activity
      */
-    @Transactional
     public void logStatusChanged(UUID taskId, UUID userId, TaskStatus oldStatus, TaskStatus newStatus) {
-        log.info("Logging status change for task: {} from {} to {}", taskId, oldStatus, newStatus);
-
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-
-        String description = String.format("%s %s changed status from %s to %s",
-                user.getFirstName(), user.getLastName(),
-                formatStatus(oldStatus), formatStatus(newStatus));
-
-        logActivity(taskId, userId, ActivityType.STATUS_CHANGED, description);
+        log.debug("Logging status change for task: {} from {} to {}", taskId, oldStatus, newStatus);
+        eventPublisher.publishEvent(TaskActivityEvent.builder()
+                .taskId(taskId)
+                .userId(userId)
+                .activityType(ActivityType.STATUS_CHANGED)
+                .oldStatus(oldStatus)
+                .newStatus(newStatus)
+                .build());
     }
 
     /**
      * Log task completion activity
      */
-    @Transactional
     public void logTaskCompleted(UUID taskId, UUID userId) {
-        log.info("Logging task completion for task: {} by user: {}", taskId, userId);
+        log.debug("Logging task completion for task: {} by user: {}", taskId, userId);
+        eventPublisher.publishEvent(TaskActivityEvent.builder()
+                .taskId(taskId)
+                .userId(userId)
+                .activityType(ActivityType.COMPLETED)
+                .build());
+    }
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
+    /**
+     * Queue an activity once its transaction has committed; activities of rolled back work are never written
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskActivity(TaskActivityEvent event) {
+        BlockingQueue<TaskActivityEvent> pending = queue;
+        try {
+            if (running && pending.offer(event, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Queue full or writer stopped
+        write(List.of(event));
+    }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+    @Override
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = Thread.ofVirtual().name("task-activity-writer").start(this::drain);
+    }
 
-        String description = String.format("%s %s completed this task",
-                user.getFirstName(), user.getLastName());
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            if (!writer.join(shutdownTimeout)) {
+                log.warn("Task activity writer did not finish within {}", shutdownTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Activities queued while the writer was exiting
+        List<TaskActivityEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
 
-        logActivity(taskId, userId, ActivityType.COMPLETED, description);
+    // Well below the web server's phases: requests finishing during graceful shutdown still find the
+    // queue open, and stop() writes whatever they enqueued before the datasource closes
+    @Override
+    public int getPhase() {
+        return 0;
     }
 
     // Helper methods
 
+    private void drain() {
+        List<TaskActivityEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                TaskActivityEvent first = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to write {} task activities", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<TaskActivityEvent> events) {
+        // Runs after the producing transaction has completed, so it needs a transaction of its own
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transaction.executeWithoutResult(status -> insert(events));
+        } catch (RuntimeException e) {
+            if (events.size() == 1) {
+                log.error("Failed to write task activity: {}", events.get(0), e);
+                return;
+            }
+            // One bad row (such as a task deleted meanwhile) must not lose the rest of the batch
+            log.warn("Batch of {} task activities failed, writing them one by one", events.size(), e);
+            events.forEach(event -> write(List.of(event)));
+        }
+    }
+
+    private void insert(List<TaskActivityEvent> events) {
+        Set<UUID> userIds = new HashSet<>();
+        for (TaskActivityEvent event : events) {
+            userIds.add(event.getUserId());
+            if (event.getAssignedToUserId() != null) {
+                userIds.add(event.getAssignedToUserId());
+            }
+        }
+        Map<UUID, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<TaskActivity> activities = new ArrayList<>(events.size());
+        for (TaskActivityEvent event : events) {
+            User user = users.get(event.getUserId());
+            if (user == null) {
+                log.warn("Skipping activity for task: {} by missing user: {}", event.getTaskId(), event.getUserId());
+                continue;
+            }
+
+            // Tasks are referenced by id only; the insert needs nothing else from them
+            TaskActivity activity = new TaskActivity();
+            activity.setTask(taskRepository.getReferenceById(event.getTaskId()));
+            activity.setUser(user);
+            activity.setActivityType(event.getActivityType());
+            activity.setDescription(describe(event, user, users.get(event.getAssignedToUserId())));
+            activity.setCreatedAt(event.getOccurredAt());
+            activities.add(activity);
+        }
+
+        // Sent as JDBC batches of hibernate.jdbc.batch_size
+        taskActivityRepository.saveAll(activities);
+        log.debug("Wrote {} task activities", activities.size());
+    }
+
+    private String describe(TaskActivityEvent event, User user, User assignedTo) {
+        if (event.getDescription() != null) {
+            return event.getDescription();
+        }
+        return switch (event.getActivityType()) {
+            case CREATED -> String.format("%s %s created this task",
+                    user.getFirstName(), user.getLastName());
+            case ASSIGNED -> assignedTo == null
+                    ? String.format("%s %s assigned this task", user.getFirstName(), user.getLastName())
+                    : String.format("%s %s assigned this task to %s %s",
+                            user.getFirstName(), user.getLastName(),
+                            assignedTo.getFirstName(), assignedTo.getLastName());
+            case STATUS_CHANGED -> String.format("%s %s changed status from %s to %s",
+                    user.getFirstName(), user.getLastName(),
+                    formatStatus(event.getOldStatus()), formatStatus(event.getNewStatus()));
+            case COMPLETED -> String.format("%s %s completed this task",
+                    user.getFirstName(), user.getLastName());
+        };
+    }
+
     private String formatStatus(TaskStatus status) {
         return Pattern.compile("\\b(\\w)")
                 .matcher(status.name().replace("_", " ").toLowerCase())
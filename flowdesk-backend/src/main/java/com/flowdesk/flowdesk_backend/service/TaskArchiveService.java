@@ -0,0 +1,102 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.event.TasksArchivedEvent;
+import com.flowdesk.flowdesk_backend.repository.TaskArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Task archive
+ * Moves tasks that have been DONE for longer than the configured number of days out of the
+ * live tables into tasks_archive, so the indexes behind the boards only cover current work.
+ * Runs in small batches, each in its own transaction, skipping rows other transactions hold.
+ * Archived tasks stay readable through TaskService.getTaskById.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskArchiveService {
+
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${flowdesk.tasks.archive.after-days:180}")
+    private int archiveAfterDays;
+
+    @Value("${flowdesk.tasks.archive.batch-size:200}")
+    private int batchSize;
+
+    @Value("${flowdesk.tasks.archive.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    // Partitions known to exist, so steady-state batches skip the DDL
+    private final Set<YearMonth> partitions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Archive completed tasks older than the cutoff, batch by batch
+     */
+    @Scheduled(fixedDelayString = "${flowdesk.tasks.archive.interval:PT15M}",
+            initialDelayString = "${flowdesk.tasks.archive.interval:PT15M}")
+    public void archiveCompletedTasks() {
+        LocalDateTime completedBefore = LocalDateTime.now().minusDays(archiveAfterDays);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                Integer archived = transaction.execute(status -> archiveBatch(completedBefore));
+                total += archived != null ? archived : 0;
+                if (archived == null || archived < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // The next run resumes from whatever is left; a rolled back batch also undid its partitions
+            log.error("Task archiving stopped after {} tasks", total, e);
+            partitions.clear();
+        }
+
+        if (total > 0) {
+            log.info("Archived {} tasks completed before {}", total, completedBefore);
+        }
+    }
+
+    // Helper methods
+
+    private int archiveBatch(LocalDateTime completedBefore) {
+        List<UUID> taskIds = taskArchiveRepository.lockArchivableTaskIds(completedBefore, batchSize);
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+
+        // Rare: the DDL locks the archive table until this batch commits
+        for (YearMonth month : taskArchiveRepository.findCompletionMonths(taskIds)) {
+            if (!partitions.contains(month)) {
+                taskArchiveRepository.createPartition(month);
+                partitions.add(month);
+            }
+        }
+
+        Set<UUID> projectIds = new HashSet<>(taskArchiveRepository.findProjectIds(taskIds));
+        int archived = taskArchiveRepository.moveToArchive(taskIds);
+        eventPublisher.publishEvent(new TasksArchivedEvent(projectIds, new HashSet<>(taskIds)));
+
+        log.debug("Archived batch of {} tasks from {} projects", archived, projectIds.size());
+        return taskIds.size();
+    }
+}
@@ -0,0 +1,99 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.exception.BadRequestException;
+import com.flowdesk.flowdesk_backend.model.enums.TaskSortOrder;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Task listing cursor
+ * Opaque continuation token holding the sort order, the listing phase and the
+ * (sort key, id) of the last task returned. Due-date listings walk dated tasks
+ * first and then continue with undated tasks in creation order.
+ */
+record TaskCursor(TaskSortOrder sort, boolean undated, Object key, UUID id) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    static TaskCursor first(TaskSortOrder sort) {
+        return new TaskCursor(sort, false, null, null);
+    }
+
+    static TaskCursor firstUndated() {
+        return new TaskCursor(TaskSortOrder.DUE_DATE, true, null, null);
+    }
+
+    /**
+     * Cursor positioned after the last row of a window within the same phase
+     */
+    TaskCursor after(ScrollPosition lastRow) {
+        Map<String, Object> keys = ((KeysetScrollPosition) lastRow).getKeys();
+        return new TaskCursor(sort, undated, keys.get(keyProperty()), (UUID) keys.get("id"));
+    }
+
+    Sort toSort() {
+        return Sort.by(keyProperty(), "id");
+    }
+
+    ScrollPosition toScrollPosition() {
+        if (key == null) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(keyProperty(), key);
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+
+    String encode() {
+        // A phase start (no key yet) is encoded with empty key fields
+        String raw = String.join(SEPARATOR, VERSION, sort.name(), undated ? "U" : "D",
+                key != null ? key.toString() : "", id != null ? id.toString() : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new BadRequestException("Invalid cursor");
+            }
+
+            TaskSortOrder sort = TaskSortOrder.valueOf(parts[1]);
+            boolean undated = "U".equals(parts[2]);
+            if (parts[3].isEmpty()) {
+                return new TaskCursor(sort, undated, null, null);
+            }
+            Object key = sort == TaskSortOrder.DUE_DATE && !undated
+                    ? LocalDate.parse(parts[3])
+                    : LocalDateTime.parse(parts[3]);
+
+            return new TaskCursor(sort, undated, key, UUID.fromString(parts[4]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Whether this cursor walks dated tasks by due date, after which undated tasks follow
+     */
+    boolean ordersByDueDate() {
+        return sort == TaskSortOrder.DUE_DATE && !undated;
+    }
+
+    private String keyProperty() {
+        return ordersByDueDate() ? "dueDate" : "createdAt";
+    }
+}
@@ -0,0 +1,121 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.dto.request.AddTaskDependencyRequest;
+import com.flowdesk.flowdesk_backend.dto.response.TaskDependencyResponse;
+import com.flowdesk.flowdesk_backend.event.TaskDependencyChangedEvent;
+import com.flowdesk.flowdesk_backend.exception.BadRequestException;
+import com.flowdesk.flowdesk_backend.exception.ConflictException;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.TaskDependency;
+import com.flowdesk.flowdesk_backend.repository.ProjectRepository;
+import com.flowdesk.flowdesk_backend.repository.TaskDependencyRepository;
+import com.flowdesk.flowdesk_backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskDependencyService {
+
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Mark a task as blocked by another task of the same project
+     * Rejected when the blocking task already depends on the task, directly or transitively
+     */
+    @Transactional
+    public TaskDependencyResponse addDependency(UUID taskId, AddTaskDependencyRequest request) {
+        UUID blockedById = request.getBlockedByTaskId();
+        log.info("Adding dependency: task {} blocked by {}", taskId, blockedById);
+
+        if (taskId.equals(blockedById)) {
+            throw new BadRequestException("A task cannot be blocked by itself");
+        }
+
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
+        Task blockedBy = taskRepository.findById(blockedById)
+                .orElseThrow(() -> new RuntimeException("Task not found with id: " + blockedById));
+
+        UUID projectId = task.getProject().getId();
+        if (!projectId.equals(blockedBy.getProject().getId())) {
+            throw new BadRequestException("Dependent tasks must belong to the same project");
+        }
+
+        // Held until commit, so the cycle check below sees every dependency committed before this one
+        projectRepository.findByIdForUpdate(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+
+        if (taskDependencyRepository.existsByTaskIdAndBlockedById(taskId, blockedById)) {
+            throw new ConflictException("Task " + taskId + " is already blocked by " + blockedById);
+        }
+        if (taskDependencyRepository.isTransitivelyBlockedBy(blockedById, taskId)) {
+            throw new ConflictException("Task " + blockedById + " already depends on " + taskId
+                    + "; the dependency would create a cycle");
+        }
+
+        TaskDependency dependency = new TaskDependency();
+        dependency.setTask(task);
+        dependency.setBlockedBy(blockedBy);
+        TaskDependency savedDependency = taskDependencyRepository.save(dependency);
+        log.info("Dependency added successfully");
+
+        eventPublisher.publishEvent(new TaskDependencyChangedEvent(taskId, projectId));
+
+        return mapToDependencyResponse(savedDependency);
+    }
+
+    /**
+     * Get the tasks blocking a task
+     */
+    @Transactional(readOnly = true)
+    public List<TaskDependencyResponse> getDependencies(UUID taskId) {
+        log.info("Fetching dependencies for task: {}", taskId);
+
+        return taskDependencyRepository.findByTaskId(taskId).stream()
+                .map(this::mapToDependencyResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Remove a blocked-by relationship
+     */
+    @Transactional
+    public void removeDependency(UUID taskId, UUID blockedById) {
+        log.info("Removing dependency: task {} blocked by {}", taskId, blockedById);
+
+        TaskDependency dependency = taskDependencyRepository.findByTaskIdAndBlockedById(taskId, blockedById)
+                .orElseThrow(() -> new RuntimeException(
+                        "Dependency not found for task " + taskId + " blocked by " + blockedById));
+        UUID projectId = dependency.getTask().getProject().getId();
+
+        taskDependencyRepository.delete(dependency);
+        log.info("Dependency removed successfully");
+
+        eventPublisher.publishEvent(new TaskDependencyChangedEvent(taskId, projectId));
+    }
+
+    // Helper methods
+
+    private TaskDependencyResponse mapToDependencyResponse(TaskDependency dependency) {
+        Task blockedBy = dependency.getBlockedBy();
+        return TaskDependencyResponse.builder()
+                .taskId(dependency.getTask().getId())
+                .blockedByTaskId(blockedBy.getId())
+                .blockedByTitle(blockedBy.getTitle())
+                .blockedByStatus(blockedBy.getStatus())
+                .createdAt(dependency.getCreatedAt())
+                .build();
+    }
+}
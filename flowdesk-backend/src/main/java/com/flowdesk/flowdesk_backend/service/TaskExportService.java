@@ -0,0 +1,210 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowdesk.flowdesk_backend.dto.projection.TaskExportRow;
+import com.flowdesk.flowdesk_backend.model.enums.TaskExportFormat;
+import com.flowdesk.flowdesk_backend.repository.ProjectRepository;
+import com.flowdesk.flowdesk_backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Project task export
+ * Streams every task of a project as CSV or NDJSON straight from a forward-only database
+ * cursor to the response, one row at a time, so memory use does not grow with the project.
+ * Live tasks come first, each in creation order, followed by the project's archived tasks.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskExportService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private static final List<Column> COLUMNS = List.of(
+            new Column("id", TaskExportRow::getId),
+            new Column("title", TaskExportRow::getTitle),
+            new Column("description", TaskExportRow::getDescription),
+            new Column("status", TaskExportRow::getStatus),
+            new Column("priority", TaskExportRow::getPriority),
+            new Column("storyPoints", TaskExportRow::getStoryPoints),
+            new Column("estimatedHours", TaskExportRow::getEstimatedHours),
+            new Column("actualHoursLogged", TaskExportRow::getActualHoursLogged),
+            new Column("assigneeId", TaskExportRow::getAssigneeId),
+            new Column("assigneeEmail", TaskExportRow::getAssigneeEmail),
+            new Column("startDate", TaskExportRow::getStartDate),
+            new Column("dueDate", TaskExportRow::getDueDate),
+            new Column("completedAt", TaskExportRow::getCompletedAt),
+            new Column("riskLevel", TaskExportRow::getRiskLevel),
+            new Column("riskScore", TaskExportRow::getRiskScore),
+            new Column("createdAt", TaskExportRow::getCreatedAt),
+            new Column("updatedAt", TaskExportRow::getUpdatedAt));
+
+    /**
+     * Export the tasks of a project
+     * The project is checked before anything is written, so a missing one still gets an error
+     * response; the rows are read when the returned body is written, on the async request thread.
+     */
+    public StreamingResponseBody exportTasks(UUID projectId, TaskExportFormat format, boolean gzip) {
+        log.info("Exporting tasks of project {} as {}", projectId, format);
+
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found with id: " + projectId);
+        }
+
+        return out -> {
+            long start = System.nanoTime();
+            OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+            long rows = streamRows(projectId, format, target);
+            if (target instanceof GZIPOutputStream compressed) {
+                compressed.finish();
+            }
+            out.flush();
+            log.info("Exported {} tasks of project {} in {} ms", rows, projectId, (System.nanoTime() - start) / 1_000_000);
+        };
+    }
+
+    public static MediaType mediaType(TaskExportFormat format) {
+        return format == TaskExportFormat.CSV ? TEXT_CSV : MediaType.APPLICATION_NDJSON;
+    }
+
+    public static String fileName(UUID projectId, TaskExportFormat format) {
+        return "project-" + projectId + "-tasks." + format.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Whether an Accept-Encoding header admits gzip (a q of 0 refuses it)
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim().replace(" ", "");
+                    if (parameter.matches("q=0(\\.0{0,3})?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Helper methods
+
+    private long streamRows(UUID projectId, TaskExportFormat format, OutputStream out) {
+        // Read-only transaction: the driver only fetches in batches with auto-commit off
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        Long rows = transaction.execute(status -> {
+            // The archive cursor is only opened once the live one has been read to the end
+            try (Stream<TaskExportRow> stream = Stream.concat(
+                    taskRepository.streamExportRowsByProjectId(projectId),
+                    Stream.of(projectId).flatMap(taskRepository::streamArchivedExportRowsByProjectId))) {
+                return format == TaskExportFormat.CSV ? writeCsv(stream, out) : writeNdjson(stream, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private long writeCsv(Stream<TaskExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writeCsvLine(writer, COLUMNS.stream().map(Column::name).toList());
+
+        long count = 0;
+        for (TaskExportRow row : (Iterable<TaskExportRow>) rows::iterator) {
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsvValue(writer, COLUMNS.get(i).value().apply(row));
+            }
+            writer.write("\r\n");
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvLine(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(writer, values.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: fields holding a separator, quote or line break are quoted, quotes doubled
+    private void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private long writeNdjson(Stream<TaskExportRow> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(
+                new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE));
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // One object per line, nothing between them
+        generator.setRootValueSeparator(null);
+
+        long count = 0;
+        for (TaskExportRow row : (Iterable<TaskExportRow>) rows::iterator) {
+            generator.writeStartObject();
+            for (Column column : COLUMNS) {
+                generator.writeObjectField(column.name(), column.value().apply(row));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            count++;
+        }
+        generator.flush();
+        return count;
+    }
+
+    private record Column(String name, Function<TaskExportRow, Object> value) {
+    }
+}
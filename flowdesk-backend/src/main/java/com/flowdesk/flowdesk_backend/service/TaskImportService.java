@@ -0,0 +1,256 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowdesk.flowdesk_backend.dto.request.CreateTaskRequest;
+import com.flowdesk.flowdesk_backend.dto.response.BulkTaskImportResponse;
+import com.flowdesk.flowdesk_backend.event.TasksImportedEvent;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import com.flowdesk.flowdesk_backend.repository.ProjectRepository;
+import com.flowdesk.flowdesk_backend.repository.TaskRepository;
+import com.flowdesk.flowdesk_backend.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk task import
+ * Streams a JSON array or NDJSON body and inserts tasks in JDBC batches.
+ * Each batch resolves its projects and assignees once, runs in its own transaction
+ * and updates project story points and assignee workloads with one statement per
+ * distinct project / assignee. Invalid rows are reported without failing the import.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectStoryPointService projectStoryPointService;
+    private final UserRepository userRepository;
+    private final TypeaheadService typeaheadService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Keep in line with spring.jpa.properties.hibernate.jdbc.batch_size
+    @Value("${flowdesk.tasks.bulk-import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Import tasks from a JSON array or a newline-delimited JSON stream
+     */
+    public BulkTaskImportResponse importTasks(InputStream body, UUID createdByUserId) throws IOException {
+        log.info("Starting bulk task import by user: {}", createdByUserId);
+
+        if (!userRepository.existsById(createdByUserId)) {
+            throw new RuntimeException("User not found with id: " + createdByUserId);
+        }
+
+        ImportResult result = new ImportResult();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+
+        // readValues iterates both root-level value sequences (NDJSON) and a wrapping JSON array
+        try (MappingIterator<CreateTaskRequest> rows = objectMapper
+                .readerFor(CreateTaskRequest.class)
+                .readValues(body)) {
+
+            while (true) {
+                int index = result.received;
+                CreateTaskRequest request;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    request = rows.nextValue();
+                } catch (JsonMappingException e) {
+                    // The iterator resyncs to the next value, so only this row is lost
+                    result.received++;
+                    result.fail(index, null, "Unreadable row: " + e.getOriginalMessage());
+                    continue;
+                } catch (JsonProcessingException e) {
+                    result.fail(index, null, "Malformed input, import stopped: " + e.getOriginalMessage());
+                    break;
+                }
+
+                result.received++;
+                ImportRow row = prepare(index, request, result);
+                if (row != null) {
+                    batch.add(row);
+                }
+                if (batch.size() >= batchSize) {
+                    importBatch(batch, createdByUserId, result);
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            importBatch(batch, createdByUserId, result);
+        }
+
+        log.info("Bulk task import finished: {} received, {} imported, {} failed",
+                result.received, result.imported, result.failed);
+
+        return BulkTaskImportResponse.builder()
+                .received(result.received)
+                .imported(result.imported)
+                .failed(result.failed)
+                .errors(result.errors)
+                .build();
+    }
+
+    // Helper methods
+
+    /**
+     * Validate a row and derive the values that could fail outside the batch transaction
+     */
+    private ImportRow prepare(int index, CreateTaskRequest request, ImportResult result) {
+        if (request == null) {
+            result.fail(index, null, "Row is empty");
+            return null;
+        }
+
+        Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            result.fail(index, request.getTitle(), message);
+            return null;
+        }
+
+        try {
+            return new ImportRow(index, request, TaskService.generateBranchName(request.getTitle()));
+        } catch (RuntimeException e) {
+            result.fail(index, request.getTitle(), "Cannot derive branch name from title");
+            return null;
+        }
+    }
+
+    private void importBatch(List<ImportRow> batch, UUID createdByUserId, ImportResult result) {
+        // Resolve every referenced project and assignee with one query each
+        Set<UUID> projectIds = batch.stream()
+                .map(row -> row.request().getProjectId())
+                .collect(Collectors.toSet());
+        Set<UUID> assigneeIds = batch.stream()
+                .map(row -> row.request().getAssignedToUserId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Set<UUID> existingProjects = new HashSet<>(projectRepository.findExistingIds(projectIds));
+        Set<UUID> existingAssignees = assigneeIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findExistingIds(assigneeIds));
+
+        List<ImportRow> resolved = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            CreateTaskRequest request = row.request();
+            if (!existingProjects.contains(request.getProjectId())) {
+                result.fail(row.index(), request.getTitle(), "Project not found with id: " + request.getProjectId());
+            } else if (request.getAssignedToUserId() != null
+                    && !existingAssignees.contains(request.getAssignedToUserId())) {
+                result.fail(row.index(), request.getTitle(), "Assignee not found");
+            } else {
+                resolved.add(row);
+            }
+        }
+
+        if (resolved.isEmpty()) {
+            return;
+        }
+
+        try {
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> persistBatch(resolved, createdByUserId));
+            result.imported += resolved.size();
+        } catch (RuntimeException e) {
+            log.error("Bulk import batch of {} rows failed", resolved.size(), e);
+            String message = "Batch insert failed: " + e.getMessage();
+            resolved.forEach(row -> result.fail(row.index(), row.request().getTitle(), message));
+        }
+    }
+
+    private void persistBatch(List<ImportRow> rows, UUID createdByUserId) {
+        User createdBy = userRepository.getReferenceById(createdByUserId);
+        LocalDate today = LocalDate.now();
+
+        // Sorted so concurrent batches update shared counter rows in the same order
+        Map<UUID, Integer> pointsByProject = new TreeMap<>();
+        Map<UUID, Integer> pointsByAssignee = new TreeMap<>();
+        List<Task> tasks = new ArrayList<>(rows.size());
+
+        for (ImportRow row : rows) {
+            CreateTaskRequest request = row.request();
+
+            Task task = new Task();
+            task.setProject(projectRepository.getReferenceById(request.getProjectId()));
+            task.setTitle(request.getTitle());
+            task.setDescription(request.getDescription());
+            task.setStatus(TaskStatus.TODO);
+            task.setPriority(request.getPriority());
+            task.setStoryPoints(request.getStoryPoints());
+            task.setEstimatedHours(request.getEstimatedHours());
+            task.setDueDate(request.getDueDate());
+            task.setActualHoursLogged(0);
+            task.setCreatedByUser(createdBy);
+            task.setSuggestedBranchName(row.branchName());
+
+            if (request.getAssignedToUserId() != null) {
+                task.setAssignedToUser(userRepository.getReferenceById(request.getAssignedToUserId()));
+                task.setStartDate(today);
+                pointsByAssignee.merge(request.getAssignedToUserId(), request.getStoryPoints(), Integer::sum);
+            }
+
+            pointsByProject.merge(request.getProjectId(), request.getStoryPoints(), Integer::sum);
+            tasks.add(task);
+        }
+
+        // UUIDs are generated in memory, so the inserts are sent as JDBC batches
+        taskRepository.saveAll(tasks);
+        typeaheadService.indexTasks(tasks);
+
+        pointsByProject.forEach(projectStoryPointService::addTotalStoryPoints);
+        pointsByAssignee.forEach(userRepository::addWorkloadPoints);
+
+        eventPublisher.publishEvent(new TasksImportedEvent(pointsByProject.keySet(), pointsByAssignee.keySet()));
+    }
+
+    private record ImportRow(int index, CreateTaskRequest request, String branchName) {
+    }
+
+    private static class ImportResult {
+        private int received;
+        private int imported;
+        private int failed;
+        private final List<BulkTaskImportResponse.RowError> errors = new ArrayList<>();
+
+        private void fail(int index, String title, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BulkTaskImportResponse.RowError(index, title, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.dto.ml.BatchRiskPredictionResponse;
+import com.flowdesk.flowdesk_backend.dto.projection.RiskScoringRow;
+import com.flowdesk.flowdesk_backend.event.TasksRiskScoredEvent;
+import com.flowdesk.flowdesk_backend.model.enums.RiskLevel;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import com.flowdesk.flowdesk_backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Background task risk scoring
+ * Pages through open tasks in id order and scores each page with one call to the ML service.
+ * Only predictions that changed are written back, as one JDBC batch in one transaction per page
+ * that touches nothing but the risk columns, after which the projects of those tasks get their risk level
+ * recomputed. A page is read, scored and
+ * written in that order; no transaction is held open across the ML call.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskRiskScoringService {
+
+    private final TaskRepository taskRepository;
+    private final MLServiceClient mlServiceClient;
+    private final ProjectService projectService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${flowdesk.ml.risk-scoring.batch-size:500}")
+    private int batchSize;
+
+    // Sorts before every stored id, so the first page starts at the beginning
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    // Risk columns only: updatedAt stays as the last user edit left it, so If-Match never fails on a
+    // scoring run; tasks finished or deleted since the page was read are left alone
+    private static final String UPDATE_RISK_PREDICTION = "UPDATE tasks SET risk_level = ?, risk_score = ?, " +
+            "will_miss_deadline_prediction = ? WHERE id = ? AND status <> ?";
+    private static final int[] UPDATE_RISK_PREDICTION_TYPES =
+            {Types.VARCHAR, Types.NUMERIC, Types.BOOLEAN, Types.OTHER, Types.VARCHAR};
+
+    /**
+     * Score all open tasks and persist the predictions that changed
+     */
+    @Scheduled(fixedDelayString = "${flowdesk.ml.risk-scoring.interval:PT1H}",
+            initialDelayString = "${flowdesk.ml.risk-scoring.interval:PT1H}")
+    public void scoreOpenTasks() {
+        long started = System.nanoTime();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Assignees of the rescored tasks by project, for the project recompute and dashboard refresh
+        Map<UUID, Set<UUID>> changedProjects = new HashMap<>();
+        UUID afterId = FIRST_ID;
+        int scored = 0;
+        int updated = 0;
+        try {
+            while (true) {
+                List<RiskScoringRow> page = taskRepository.findRiskScoringPage(
+                        TaskStatus.DONE, afterId, Limit.of(batchSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+
+                // Blocks this job's own scheduler thread while the page is scored; see spring.task.scheduling.pool.size
+                List<BatchRiskPredictionResponse.Prediction> predictions = mlServiceClient.predictTaskRisks(page).block();
+                if (predictions == null || predictions.isEmpty()) {
+                    log.warn("Risk scoring stopped after {} tasks: no predictions from the ML service", scored);
+                    break;
+                }
+
+                Map<UUID, BatchRiskPredictionResponse.Prediction> changed = changedPredictions(page, predictions);
+                if (!changed.isEmpty()) {
+                    transaction.executeWithoutResult(status -> write(changed));
+                    for (RiskScoringRow row : page) {
+                        if (changed.containsKey(row.getId())) {
+                            Set<UUID> assignees = changedProjects.computeIfAbsent(row.getProjectId(), id -> new HashSet<>());
+                            if (row.getAssignedToUserId() != null) {
+                                assignees.add(row.getAssignedToUserId());
+                            }
+                        }
+                    }
+                }
+
+                scored += page.size();
+                updated += changed.size();
+                if (page.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Pages written so far are kept; the next run scores everything again
+            log.error("Risk scoring stopped after {} tasks", scored, e);
+        }
+
+        recomputeProjects(transaction, changedProjects);
+        log.info("Scored {} open tasks, {} predictions changed, {} projects recomputed in {}",
+                scored, updated, changedProjects.size(), Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    // Helper methods
+
+    private Map<UUID, BatchRiskPredictionResponse.Prediction> changedPredictions(
+            List<RiskScoringRow> page, List<BatchRiskPredictionResponse.Prediction> predictions) {
+        Map<UUID, BatchRiskPredictionResponse.Prediction> byId = new HashMap<>();
+        for (BatchRiskPredictionResponse.Prediction prediction : predictions) {
+            if (prediction.getId() != null && toRiskLevel(prediction.getRiskLevel()) != null) {
+                byId.put(prediction.getId(), prediction);
+            }
+        }
+
+        Map<UUID, BatchRiskPredictionResponse.Prediction> changed = new HashMap<>();
+        for (RiskScoringRow row : page) {
+            BatchRiskPredictionResponse.Prediction prediction = byId.get(row.getId());
+            if (prediction == null) {
+                continue;
+            }
+            BigDecimal riskScore = toRiskScore(prediction.getRiskScore());
+            boolean sameScore = riskScore == null
+                    ? row.getRiskScore() == null
+                    : row.getRiskScore() != null && riskScore.compareTo(row.getRiskScore()) == 0;
+            if (!sameScore
+                    || toRiskLevel(prediction.getRiskLevel()) != row.getRiskLevel()
+                    || !Objects.equals(prediction.getWillMissDeadline(), row.getWillMissDeadlinePrediction())) {
+                changed.put(row.getId(), prediction);
+            }
+        }
+        return changed;
+    }
+
+    private void write(Map<UUID, BatchRiskPredictionResponse.Prediction> predictions) {
+        // One JDBC batch per page, in the database's uuid order like the other multi-row writers;
+        // Hibernate never batches JPQL updates, so they would cost a round trip per task
+        List<Object[]> rows = predictions.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(UUID::toString)))
+                .map(entry -> new Object[]{
+                        toRiskLevel(entry.getValue().getRiskLevel()).name(),
+                        toRiskScore(entry.getValue().getRiskScore()),
+                        entry.getValue().getWillMissDeadline(),
+                        entry.getKey(),
+                        TaskStatus.DONE.name()})
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_RISK_PREDICTION, rows, UPDATE_RISK_PREDICTION_TYPES);
+    }
+
+    private void recomputeProjects(TransactionTemplate transaction, Map<UUID, Set<UUID>> changedProjects) {
+        List<UUID> projectIds = new ArrayList<>(changedProjects.keySet());
+        for (int from = 0; from < projectIds.size(); from += batchSize) {
+            List<UUID> chunk = projectIds.subList(from, Math.min(from + batchSize, projectIds.size()));
+            try {
+                transaction.executeWithoutResult(status -> {
+                    Set<UUID> assigneeIds = new HashSet<>();
+                    for (UUID projectId : chunk) {
+                        projectService.updateProjectRiskLevel(projectId);
+                        assigneeIds.addAll(changedProjects.get(projectId));
+                    }
+                    eventPublisher.publishEvent(new TasksRiskScoredEvent(new HashSet<>(chunk), assigneeIds));
+                });
+            } catch (RuntimeException e) {
+                log.error("Failed to recompute risk level of {} projects", chunk.size(), e);
+            }
+        }
+    }
+
+    private RiskLevel toRiskLevel(String riskLevel) {
+        try {
+            return riskLevel != null ? RiskLevel.valueOf(riskLevel) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Matches the precision of tasks.risk_score
+    private BigDecimal toRiskScore(Double riskScore) {
+        return riskScore != null ? BigDecimal.valueOf(riskScore).setScale(4, RoundingMode.HALF_UP) : null;
+    }
+}
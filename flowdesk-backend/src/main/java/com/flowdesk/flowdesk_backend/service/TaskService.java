@@ -1,28 +1,51 @@
 package com.flowdesk.flowdesk_backend.service;
 
+import com.flowdesk.flowdesk_backend.dto.projection.ArchivedTaskRow;
+import com.flowdesk.flowdesk_backend.dto.projection.TaskVersion;
 import com.flowdesk.flowdesk_backend.dto.request.ApproveTaskRequest;
 import com.flowdesk.flowdesk_backend.dto.request.AssignTaskRequest;
 import com.flowdesk.flowdesk_backend.dto.request.CreateTaskRequest;
 import com.flowdesk.flowdesk_backend.dto.request.SubmitTaskForReviewRequest;
 import com.flowdesk.flowdesk_backend.dto.request.UpdateTaskRequest;
+import com.flowdesk.flowdesk_backend.dto.response.TaskPageResponse;
 import com.flowdesk.flowdesk_backend.dto.response.TaskResponse;
 import com.flowdesk.flowdesk_backend.dto.response.UserResponse;
+import com.flowdesk.flowdesk_backend.event.TaskChangedEvent;
+import com.flowdesk.flowdesk_backend.exception.BadRequestException;
+import com.flowdesk.flowdesk_backend.exception.PreconditionFailedException;
 import com.flowdesk.flowdesk_backend.model.Project;
 import com.flowdesk.flowdesk_backend.model.Task;
 import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.TaskSortOrder;
 import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
 import com.flowdesk.flowdesk_backend.repository.ProjectRepository;
+import com.flowdesk.flowdesk_backend.repository.SparseQueryRepository;
 import com.flowdesk.flowdesk_backend.repository.TaskRepository;
 import com.flowdesk.flowdesk_backend.repository.UserRepository;
+import com.flowdesk.flowdesk_backend.util.ETagUtils;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,7 +55,41 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final ProjectStoryPointService projectStoryPointService;
     private final UserRepository userRepository;
+    private final TypeaheadService typeaheadService;
+    private final SparseQueryRepository sparseQueryRepository;
+    private final TaskActivityService taskActivityService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private static final List<String> USER_ATTRIBUTES = List.of("id", "email", "firstName", "lastName", "role");
+
+    // Fields selectable with ?fields= on task listings
+    private static final SparseFieldSet<TaskResponse> TASK_FIELDS = new SparseFieldSet<>(TaskResponse::new)
+            .field("id", TaskResponse::setId)
+            .field("projectId", "project.id", TaskResponse::setProjectId)
+            .field("title", TaskResponse::setTitle)
+            .field("description", TaskResponse::setDescription)
+            .field("status", TaskResponse::setStatus)
+            .field("priority", TaskResponse::setPriority)
+            .field("storyPoints", TaskResponse::setStoryPoints)
+            .nested("assignedTo", "assignedToUser", USER_ATTRIBUTES, TaskService::userFromColumns, TaskResponse::setAssignedTo)
+            .field("estimatedHours", TaskResponse::setEstimatedHours)
+            .field("actualHoursLogged", TaskResponse::setActualHoursLogged)
+            .field("startDate", TaskResponse::setStartDate)
+            .field("dueDate", TaskResponse::setDueDate)
+            .field("completedAt", TaskResponse::setCompletedAt)
+            .field("pullRequestUrl", TaskResponse::setPullRequestUrl)
+            .field("riskScore", TaskResponse::setRiskScore)
+            .field("riskLevel", TaskResponse::setRiskLevel)
+            .field("willMissDeadlinePrediction", TaskResponse::setWillMissDeadlinePrediction)
+            .field("aiGeneratedSummary", TaskResponse::setAiGeneratedSummary)
+            .nested("createdBy", "createdByUser", USER_ATTRIBUTES, TaskService::userFromColumns, TaskResponse::setCreatedBy)
+            .field("createdAt", TaskResponse::setCreatedAt)
+            .field("updatedAt", TaskResponse::setUpdatedAt);
 
     /**
      * Create a new task
@@ -69,21 +126,25 @@ public class TaskService {
                     .orElseThrow(() -> new RuntimeException("Assignee not found"));
             task.setAssignedToUser(assignee);
             task.setStartDate(LocalDate.now());
-
-            // Update assignee workload
-            assignee.setCurrentWorkloadPoints(
-                    assignee.getCurrentWorkloadPoints() + request.getStoryPoints()
-            );
-            userRepository.save(assignee);
         }
 
-        // Update project total story points
-        project.setTotalStoryPoints(project.getTotalStoryPoints() + request.getStoryPoints());
-        projectRepository.save(project);
-
         Task savedTask = taskRepository.save(task);
         log.info("Task created successfully: {}", savedTask.getTitle());
 
+        // Update project total story points and assignee workload
+        projectStoryPointService.addTotalStoryPoints(project.getId(), request.getStoryPoints());
+        if (savedTask.getAssignedToUser() != null) {
+            userRepository.addWorkloadPoints(savedTask.getAssignedToUser().getId(), request.getStoryPoints());
+        }
+
+        typeaheadService.indexTask(savedTask);
+        publishTaskChanged(savedTask);
+
+        taskActivityService.logTaskCreated(savedTask.getId(), createdByUserId);
+        if (savedTask.getAssignedToUser() != null) {
+            taskActivityService.logTaskAssigned(savedTask.getId(), createdByUserId, savedTask.getAssignedToUser().getId());
+        }
+
         return mapToTaskResponse(savedTask);
     }
 
@@ -93,9 +154,11 @@ public class TaskService {
     @Transactional(readOnly = true)
     public TaskResponse getTaskById(UUID id) {
         log.info("Fetching task with id: {}", id);
-        Task task = taskRepository.findById(id)
+        return taskRepository.findWithUsersById(id)
+                .map(this::mapToTaskResponse)
+                // Long completed tasks have moved to the archive
+                .or(() -> taskRepository.findArchivedById(id).map(this::mapToTaskResponse))
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
-        return mapToTaskResponse(task);
     }
 
     @Transactional(readOnly = true)
@@ -106,53 +169,88 @@ public class TaskService {
 
 
     /**
-     * Get all tasks for a project
+     * Get a page of tasks for a project
+     * With fields set, only those columns are selected and returned
      */
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByProject(UUID projectId) {
-        log.info("Fetching tasks for project: {}", projectId);
-        List<Task> tasks = taskRepository.findByProjectId(projectId);
-        return tasks.stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+    public TaskPageResponse getTasksByProject(UUID projectId, TaskSortOrder sort, String cursor, Integer limit,
+                                              String fields) {
+        log.info("Fetching tasks for project: {} ordered by {}", projectId, sort);
+        SparseFieldSet.Selection selection = TASK_FIELDS.select(fields);
+        if (selection != null) {
+            return scrollSparseTasks(sort, cursor, limit, selection, belongsToProject(projectId));
+        }
+        return scrollTasks(sort, cursor, limit,
+                (position, order, pageLimit) -> taskRepository.findByProjectId(projectId, position, order, pageLimit),
+                (position, order, pageLimit) -> taskRepository.findByProjectIdAndDueDateIsNotNull(projectId, position, order, pageLimit),
+                (position, order, pageLimit) -> taskRepository.findByProjectIdAndDueDateIsNull(projectId, position, order, pageLimit),
+                this::mapToTaskResponse);
     }
 
     /**
-     * Get all tasks assigned to a user
+     * Get a page of tasks assigned to a user
+     * With fields set, only those columns are selected and returned
      */
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByUser(UUID userId) {
-        log.info("Fetching tasks for user: {}", userId);
-        List<Task> tasks = taskRepository.findByAssignedToUserId(userId);
-        return tasks.stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+    public TaskPageResponse getTasksByUser(UUID userId, TaskSortOrder sort, String cursor, Integer limit,
+                                           String fields) {
+        log.info("Fetching tasks for user: {} ordered by {}", userId, sort);
+        SparseFieldSet.Selection selection = TASK_FIELDS.select(fields);
+        if (selection != null) {
+            return scrollSparseTasks(sort, cursor, limit, selection, assignedTo(userId));
+        }
+        return scrollTasks(sort, cursor, limit,
+                (position, order, pageLimit) -> taskRepository.findByAssignedToUserId(userId, position, order, pageLimit),
+                (position, order, pageLimit) -> taskRepository.findByAssignedToUserIdAndDueDateIsNotNull(userId, position, order, pageLimit),
+                (position, order, pageLimit) -> taskRepository.findByAssignedToUserIdAndDueDateIsNull(userId, position, order, pageLimit),
+                this::mapToTaskResponse);
+    }
+
+    /**
+     * Get the entity tag of a task response without loading the task
+     * The task row's own tag, extended with the assignee and creator shown in the response and with
+     * the risk prediction, which scoring writes without moving updatedAt; If-Match compares the task
+     * row's own part only, so neither user changes nor scoring runs ever fail a write
+     */
+    @Transactional(readOnly = true)
+    public String getTaskETag(UUID id) {
+        TaskVersion version = taskRepository.findVersionById(id)
+                .or(() -> taskRepository.findArchivedVersionById(id))
+                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+        return ETagUtils.extend(taskETag(id, version.getUpdatedAt()),
+                version.getAssigneeUpdatedAt(), version.getCreatorUpdatedAt(),
+                version.getRiskLevel(), version.getRiskScore(), version.getWillMissDeadlinePrediction());
     }
 
     /**
      * Update task information
+     * A non-null ifMatch must list the task's current entity tag
      */
     @Transactional
-    public TaskResponse updateTask(UUID id, UpdateTaskRequest request) {
+    public TaskResponse updateTask(UUID id, UpdateTaskRequest request, String ifMatch) {
         log.info("Updating task with id: {}", id);
 
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
 
+        // Checked under the row lock so no other write can slip in after the comparison
+        if (!ETagUtils.matches(ifMatch, taskETag(id, task.getUpdatedAt()))) {
+            throw new PreconditionFailedException("Task has been modified since it was read: " + id);
+        }
+
         // Update story points and adjust project totals if changed
         if (!task.getStoryPoints().equals(request.getStoryPoints())) {
             int difference = request.getStoryPoints() - task.getStoryPoints();
-            Project project = task.getProject();
-            project.setTotalStoryPoints(project.getTotalStoryPoints() + difference);
-            projectRepository.save(project);
-
-            // Update assignee workload if task is assigned
-            if (task.getAssignedToUser() != null) {
-                User assignee = task.getAssignedToUser();
-                assignee.setCurrentWorkloadPoints(
-                        assignee.getCurrentWorkloadPoints() + difference
-                );
-                userRepository.save(assignee);
+            UUID projectId = task.getProject().getId();
+
+            if (task.getStatus() == TaskStatus.DONE) {
+                // Completed points already include this task; workload no longer does
+                projectStoryPointService.addStoryPoints(projectId, difference, difference);
+            } else {
+                projectStoryPointService.addTotalStoryPoints(projectId, difference);
+                if (task.getAssignedToUser() != null) {
+                    userRepository.addWorkloadPoints(task.getAssignedToUser().getId(), difference);
+                }
             }
         }
 
@@ -163,9 +261,13 @@ public class TaskService {
         task.setEstimatedHours(request.getEstimatedHours());
         task.setDueDate(request.getDueDate());
 
-        Task updatedTask = taskRepository.save(task);
+        // Flushed so the response carries the new updatedAt and entity tag
+        Task updatedTask = taskRepository.saveAndFlush(task);
         log.info("Task updated successfully: {}", updatedTask.getTitle());
 
+        typeaheadService.indexTask(updatedTask);
+        publishTaskChanged(updatedTask);
+
         return mapToTaskResponse(updatedTask);
     }
 
@@ -176,33 +278,31 @@ public class TaskService {
     public TaskResponse assignTask(UUID taskId, AssignTaskRequest request) {
         log.info("Assigning task {} to user {}", taskId, request.getUserId());
 
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findByIdForUpdate(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
 
         User newAssignee = userRepository.findById(request.getUserId())
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + request.getUserId()));
 
-        // Remove from old assignee's workload if exists
-        if (task.getAssignedToUser() != null) {
-            User oldAssignee = task.getAssignedToUser();
-            oldAssignee.setCurrentWorkloadPoints(
-                    oldAssignee.getCurrentWorkloadPoints() - task.getStoryPoints()
-            );
-            userRepository.save(oldAssignee);
+        // Move the task's points from the old assignee's workload to the new one
+        User previousAssignee = task.getAssignedToUser();
+        if (task.getStatus() != TaskStatus.DONE) {
+            Map<UUID, Integer> workloadDeltas = new TreeMap<>();
+            if (previousAssignee != null) {
+                workloadDeltas.merge(previousAssignee.getId(), -task.getStoryPoints(), Integer::sum);
+            }
+            workloadDeltas.merge(newAssignee.getId(), task.getStoryPoints(), Integer::sum);
+            applyWorkloadDeltas(workloadDeltas);
         }
 
-        // Assign to new user and update workload
         task.setAssignedToUser(newAssignee);
         task.setStartDate(LocalDate.now());
 
-        newAssignee.setCurrentWorkloadPoints(
-                newAssignee.getCurrentWorkloadPoints() + task.getStoryPoints()
-        );
-        userRepository.save(newAssignee);
-
         Task savedTask = taskRepository.save(task);
         log.info("Task assigned successfully to: {}", newAssignee.getEmail());
 
+        publishTaskChanged(savedTask, previousAssignee);
+
         return mapToTaskResponse(savedTask);
     }
 
@@ -213,36 +313,35 @@ public class TaskService {
     public TaskResponse updateTaskStatus(UUID taskId, TaskStatus newStatus) {
         log.info("Updating status of task {} to {}", taskId, newStatus);
 
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findByIdForUpdate(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
 
         TaskStatus oldStatus = task.getStatus();
         task.setStatus(newStatus);
 
-        // If completing task, update project completed story points and user workload
+        // Completing a task moves its points from the assignee's workload to project progress;
+        // reopening it moves them back
+        int completedDelta = 0;
         if (newStatus == TaskStatus.DONE && oldStatus != TaskStatus.DONE) {
             task.setCompletedAt(LocalDateTime.now());
+            completedDelta = task.getStoryPoints();
+        } else if (oldStatus == TaskStatus.DONE && newStatus != TaskStatus.DONE) {
+            task.setCompletedAt(null);
+            completedDelta = -task.getStoryPoints();
+        }
 
-            // Update project progress
-            Project project = task.getProject();
-            project.setCompletedStoryPoints(
-                    project.getCompletedStoryPoints() + task.getStoryPoints()
-            );
-            projectRepository.save(project);
-
-            // Update user workload
+        if (completedDelta != 0) {
+            projectStoryPointService.addCompletedStoryPoints(task.getProject().getId(), completedDelta);
             if (task.getAssignedToUser() != null) {
-                User assignee = task.getAssignedToUser();
-                assignee.setCurrentWorkloadPoints(
-                        assignee.getCurrentWorkloadPoints() - task.getStoryPoints()
-                );
-                userRepository.save(assignee);
+                userRepository.addWorkloadPoints(task.getAssignedToUser().getId(), -completedDelta);
             }
         }
 
         Task savedTask = taskRepository.save(task);
         log.info("Task status updated from {} to {}", oldStatus, newStatus);
 
+        publishTaskChanged(savedTask);
+
         return mapToTaskResponse(savedTask);
     }
 
@@ -264,6 +363,8 @@ public class TaskService {
         Task savedTask = taskRepository.save(task);
         log.info("Task submitted for review: {}", savedTask.getTitle());
 
+        publishTaskChanged(savedTask);
+
         return mapToTaskResponse(savedTask);
     }
 
@@ -307,7 +408,119 @@ public class TaskService {
 
     // Helper methods
 
-    private String generateBranchName(String title) {
+    // Rows are updated in a fixed (sorted) order so concurrent reassignments cannot deadlock
+    private void applyWorkloadDeltas(Map<UUID, Integer> deltasByUser) {
+        deltasByUser.forEach((userId, delta) -> {
+            if (delta != 0) {
+                userRepository.addWorkloadPoints(userId, delta);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface TaskScroll<T> {
+        Window<T> scroll(ScrollPosition position, Sort sort, Limit limit);
+    }
+
+    // Same keyset walk as the entity listings, over tuples of the selected columns
+    private TaskPageResponse scrollSparseTasks(TaskSortOrder sort, String cursor, Integer limit,
+                                               SparseFieldSet.Selection selection, Specification<Task> filter) {
+        return scrollTasks(sort, cursor, limit,
+                sparseScroll(selection, filter),
+                sparseScroll(selection, filter.and((root, query, cb) -> cb.isNotNull(root.get("dueDate")))),
+                sparseScroll(selection, filter.and((root, query, cb) -> cb.isNull(root.get("dueDate")))),
+                row -> TASK_FIELDS.map(row, selection));
+    }
+
+    private TaskScroll<Tuple> sparseScroll(SparseFieldSet.Selection selection, Specification<Task> filter) {
+        return (position, order, pageLimit) ->
+                sparseQueryRepository.scroll(Task.class, selection.paths(), filter, position, order, pageLimit);
+    }
+
+    private static Specification<Task> belongsToProject(UUID projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    private static Specification<Task> assignedTo(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("assignedToUser").get("id"), userId);
+    }
+
+    private static UserResponse userFromColumns(Function<String, Object> column) {
+        return UserResponse.builder()
+                .id((UUID) column.apply("id"))
+                .email((String) column.apply("email"))
+                .firstName((String) column.apply("firstName"))
+                .lastName((String) column.apply("lastName"))
+                .role((UserRole) column.apply("role"))
+                .build();
+    }
+
+    /**
+     * Read one keyset page; due-date listings continue into undated tasks once dated ones run out
+     */
+    private <T> TaskPageResponse scrollTasks(TaskSortOrder sort, String cursor, Integer limit,
+                                             TaskScroll<T> all, TaskScroll<T> dated, TaskScroll<T> undated,
+                                             Function<T, TaskResponse> mapper) {
+        TaskCursor position = cursor == null ? TaskCursor.first(sort) : TaskCursor.decode(cursor);
+        if (position.sort() != sort) {
+            throw new BadRequestException("Cursor was issued for a different sort order");
+        }
+        int pageSize = pageSize(limit);
+
+        TaskScroll<T> scroll = sort == TaskSortOrder.CREATED_AT ? all : position.ordersByDueDate() ? dated : undated;
+        Window<T> window = scroll.scroll(position.toScrollPosition(), position.toSort(), Limit.of(pageSize));
+        List<T> tasks = new ArrayList<>(window.getContent());
+        TaskCursor next = window.hasNext() ? position.after(window.positionAt(window.size() - 1)) : null;
+
+        if (next == null && position.ordersByDueDate()) {
+            TaskCursor undatedStart = TaskCursor.firstUndated();
+            int remaining = pageSize - tasks.size();
+            if (remaining == 0) {
+                next = undatedStart;
+            } else {
+                Window<T> rest = undated.scroll(undatedStart.toScrollPosition(), undatedStart.toSort(), Limit.of(remaining));
+                tasks.addAll(rest.getContent());
+                next = rest.hasNext() ? undatedStart.after(rest.positionAt(rest.size() - 1)) : null;
+            }
+        }
+
+        return TaskPageResponse.builder()
+                .tasks(tasks.stream()
+                        .map(mapper)
+                        .collect(Collectors.toList()))
+                .nextCursor(next != null ? next.encode() : null)
+                .build();
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be at least 1");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Notify after-commit listeners (dashboard read model) about a task change
+     */
+    private void publishTaskChanged(Task task) {
+        publishTaskChanged(task, null);
+    }
+
+    private void publishTaskChanged(Task task, User previousAssignee) {
+        Set<UUID> assigneeIds = new HashSet<>();
+        if (task.getAssignedToUser() != null) {
+            assigneeIds.add(task.getAssignedToUser().getId());
+        }
+        if (previousAssignee != null) {
+            assigneeIds.add(previousAssignee.getId());
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(task.getId(), task.getProject().getId(), assigneeIds));
+    }
+
+    static String generateBranchName(String title) {
         // Convert title to kebab-case branch name
         return "feature/" + title.toLowerCase()
                 .replaceAll("[^a-z0-9\\s]", "")
@@ -337,9 +550,53 @@ public class TaskService {
                 .aiGeneratedSummary(task.getAiGeneratedSummary())
                 .createdBy(mapToUserResponse(task.getCreatedByUser()))
                 .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
                 .build();
     }
 
+    private TaskResponse mapToTaskResponse(ArchivedTaskRow task) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .projectId(task.getProjectId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .storyPoints(task.getStoryPoints())
+                .assignedTo(task.getAssigneeId() != null ? UserResponse.builder()
+                        .id(task.getAssigneeId())
+                        .email(task.getAssigneeEmail())
+                        .firstName(task.getAssigneeFirstName())
+                        .lastName(task.getAssigneeLastName())
+                        .role(task.getAssigneeRole())
+                        .build() : null)
+                .estimatedHours(task.getEstimatedHours())
+                .actualHoursLogged(task.getActualHoursLogged())
+                .startDate(task.getStartDate())
+                .dueDate(task.getDueDate())
+                .completedAt(task.getCompletedAt())
+                .pullRequestUrl(task.getPullRequestUrl())
+                .riskScore(task.getRiskScore())
+                .riskLevel(task.getRiskLevel())
+                .willMissDeadlinePrediction(task.getWillMissDeadlinePrediction())
+                .aiGeneratedSummary(task.getAiGeneratedSummary())
+                .createdBy(task.getCreatorId() != null ? UserResponse.builder()
+                        .id(task.getCreatorId())
+                        .email(task.getCreatorEmail())
+                        .firstName(task.getCreatorFirstName())
+                        .lastName(task.getCreatorLastName())
+                        .role(task.getCreatorRole())
+                        .build() : null)
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+
+    // Shared by reads, responses and If-Match checks
+    private String taskETag(UUID id, LocalDateTime updatedAt) {
+        return ETagUtils.weak("task", id, updatedAt);
+    }
+
     private UserResponse mapToUserResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
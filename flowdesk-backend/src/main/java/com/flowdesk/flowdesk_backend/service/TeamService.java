@@ -1,25 +1,41 @@
 package com.flowdesk.flowdesk_backend.service;
 
 import com.flowdesk.flowdesk_backend.dto.common.MemberWorkloadResponse;
+import com.flowdesk.flowdesk_backend.dto.projection.AssignedTaskSummary;
+import com.flowdesk.flowdesk_backend.dto.projection.MemberWorkload;
+import com.flowdesk.flowdesk_backend.dto.projection.TeamVersion;
 import com.flowdesk.flowdesk_backend.dto.request.AddTeamMemberRequest;
 import com.flowdesk.flowdesk_backend.dto.request.CreateTeamRequest;
 import com.flowdesk.flowdesk_backend.dto.request.UpdateTeamRequest;
+import com.flowdesk.flowdesk_backend.dto.response.ReassignmentSuggestionResponse;
+import com.flowdesk.flowdesk_backend.dto.response.TaskSummaryResponse;
 import com.flowdesk.flowdesk_backend.dto.response.TeamResponse;
 import com.flowdesk.flowdesk_backend.dto.response.TeamWorkloadResponse;
 import com.flowdesk.flowdesk_backend.dto.response.UserResponse;
+import com.flowdesk.flowdesk_backend.dto.response.WorkloadBalanceResponse;
+import com.flowdesk.flowdesk_backend.event.TeamMembershipChangedEvent;
+import com.flowdesk.flowdesk_backend.exception.BadRequestException;
 import com.flowdesk.flowdesk_backend.model.Team;
 import com.flowdesk.flowdesk_backend.model.TeamMember;
 import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import com.flowdesk.flowdesk_backend.repository.TaskRepository;
 import com.flowdesk.flowdesk_backend.repository.TeamMemberRepository;
 import com.flowdesk.flowdesk_backend.repository.TeamRepository;
 import com.flowdesk.flowdesk_backend.repository.UserRepository;
+import com.flowdesk.flowdesk_backend.util.ETagUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,7 +46,14 @@ public class TeamService {
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Rebalancing band half-width in percentage points, and the move budgets
+    private static final double DEFAULT_REBALANCE_TOLERANCE = 10.0;
+    private static final int DEFAULT_REBALANCE_MOVES = 20;
+    private static final int MAX_REBALANCE_MOVES = 500;
 
     /**
      * Create a new team
@@ -64,6 +87,16 @@ public class TeamService {
         return mapToTeamResponse(team);
     }
 
+    /**
+     * Get the entity tag of a team without loading it
+     */
+    @Transactional(readOnly = true)
+    public String getTeamETag(UUID id) {
+        TeamVersion version = teamRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Team not found with id: " + id));
+        return ETagUtils.weak("team", id, version.getUpdatedAt(), version.getManagerUpdatedAt(), version.getMemberCount());
+    }
+
     /**
      * Get all teams managed by a specific manager
      */
@@ -120,6 +153,8 @@ public class TeamService {
         teamMemberRepository.save(teamMember);
         log.info("Member added successfully: {} to team: {}", user.getEmail(), team.getName());
 
+        eventPublisher.publishEvent(new TeamMembershipChangedEvent(teamId, user.getId()));
+
         return mapToTeamResponse(team);
     }
 
@@ -135,6 +170,8 @@ public class TeamService {
 
         teamMemberRepository.delete(teamMember);
         log.info("Member removed successfully from team");
+
+        eventPublisher.publishEvent(new TeamMembershipChangedEvent(teamId, userId));
     }
 
     /**
@@ -199,8 +236,134 @@ public class TeamService {
                 .build();
     }
 
+    /**
+     * Suggest the reassignments that bring every member's utilization within a band around the team's
+     * tolerance is the band's half-width in percentage points; only tasks nobody has started are moved
+     */
+    @Transactional(readOnly = true)
+    public WorkloadBalanceResponse getRebalanceSuggestions(UUID teamId, Double tolerance, Integer maxMoves) {
+        log.info("Computing workload rebalance for team: {}", teamId);
+
+        if (!teamRepository.existsById(teamId)) {
+            throw new RuntimeException("Team not found with id: " + teamId);
+        }
+        double bandWidth = tolerance == null ? DEFAULT_REBALANCE_TOLERANCE : tolerance;
+        if (bandWidth <= 0 || bandWidth > 100) {
+            throw new BadRequestException("Tolerance must be greater than 0 and at most 100 percentage points");
+        }
+        int moveBudget = maxMoves == null ? DEFAULT_REBALANCE_MOVES : maxMoves;
+        if (moveBudget < 0) {
+            throw new BadRequestException("Max moves cannot be negative");
+        }
+
+        List<MemberWorkload> members = teamMemberRepository.findMemberWorkloadsByTeamId(teamId);
+        List<AssignedTaskSummary> tasks = taskRepository.findTeamTaskSummariesByStatus(teamId, TaskStatus.TODO);
+
+        WorkloadRebalancer rebalancer = new WorkloadRebalancer(bandWidth / 100.0, Math.min(moveBudget, MAX_REBALANCE_MOVES));
+        members.forEach(member -> rebalancer.addMember(
+                member.getId(), member.getCurrentWorkloadPoints(), member.getMaxCapacityPoints()));
+        tasks.forEach(task -> rebalancer.addMovableTask(task.getId(), task.getAssigneeId(), task.getStoryPoints()));
+        long start = System.nanoTime();
+        WorkloadRebalancer.Plan plan = rebalancer.plan();
+        long elapsedMicros = (System.nanoTime() - start) / 1_000;
+
+        Map<UUID, MemberWorkload> membersById = members.stream()
+                .collect(Collectors.toMap(MemberWorkload::getId, Function.identity(), (first, second) -> first));
+        Map<UUID, AssignedTaskSummary> tasksById = tasks.stream()
+                .collect(Collectors.toMap(AssignedTaskSummary::getId, Function.identity()));
+
+        List<ReassignmentSuggestionResponse> suggestions = plan.moves().stream()
+                .map(move -> mapToSuggestion(move, plan, membersById, tasksById))
+                .collect(Collectors.toList());
+        log.info("Rebalance for team {} suggests {} of {} movable tasks, planned in {} us",
+                teamId, suggestions.size(), tasks.size(), elapsedMicros);
+
+        return WorkloadBalanceResponse.builder()
+                .isBalanced(plan.balancedBefore())
+                .imbalanceScore(imbalanceScore(plan.loadsBefore(), plan.capacities()))
+                .targetUtilization(percentage(plan.band().target()))
+                .lowerUtilization(percentage(plan.band().lower()))
+                .upperUtilization(percentage(plan.band().upper()))
+                .suggestions(suggestions)
+                .balancedAfterSuggestions(plan.balancedAfter())
+                .projectedImbalanceScore(imbalanceScore(plan.loadsAfter(), plan.capacities()))
+                .build();
+    }
+
     // Helper methods
 
+    private ReassignmentSuggestionResponse mapToSuggestion(WorkloadRebalancer.Move move, WorkloadRebalancer.Plan plan,
+                                                           Map<UUID, MemberWorkload> membersById,
+                                                           Map<UUID, AssignedTaskSummary> tasksById) {
+        MemberWorkload from = membersById.get(move.fromUserId());
+        MemberWorkload to = membersById.get(move.toUserId());
+        AssignedTaskSummary task = tasksById.get(move.taskId());
+
+        double fromBefore = (double) plan.loadsBefore().get(from.getId()) / from.getMaxCapacityPoints();
+        double toBefore = (double) plan.loadsBefore().get(to.getId()) / to.getMaxCapacityPoints();
+        double fromAfter = (double) move.fromLoadAfter() / from.getMaxCapacityPoints();
+        double toAfter = (double) move.toLoadAfter() / to.getMaxCapacityPoints();
+
+        Map<String, Integer> expectedBalance = new LinkedHashMap<>();
+        expectedBalance.put("fromWorkloadPoints", move.fromLoadAfter());
+        expectedBalance.put("fromUtilization", (int) Math.round(fromAfter * 100));
+        expectedBalance.put("toWorkloadPoints", move.toLoadAfter());
+        expectedBalance.put("toUtilization", (int) Math.round(toAfter * 100));
+
+        String reasoning = String.format("Moves %d points from %s %s (%.0f%% of capacity) to %s %s (%.0f%%); "
+                        + "team utilization is %.0f%%",
+                move.points(), from.getFirstName(), from.getLastName(), fromBefore * 100,
+                to.getFirstName(), to.getLastName(), toBefore * 100, plan.band().target() * 100);
+
+        return ReassignmentSuggestionResponse.builder()
+                .task(TaskSummaryResponse.builder()
+                        .id(task.getId())
+                        .title(task.getTitle())
+                        .status(task.getStatus())
+                        .priority(task.getPriority())
+                        .storyPoints(task.getStoryPoints())
+                        .dueDate(task.getDueDate())
+                        .riskLevel(task.getRiskLevel())
+                        .build())
+                .fromUser(mapToUserResponse(from))
+                .toUser(mapToUserResponse(to))
+                .reasoning(reasoning)
+                .expectedBalance(expectedBalance)
+                .build();
+    }
+
+    // Population standard deviation of utilization, in percentage points
+    private static double imbalanceScore(Map<UUID, Integer> loads, Map<UUID, Integer> capacities) {
+        if (loads.isEmpty()) {
+            return 0.0;
+        }
+        double[] utilizations = loads.entrySet().stream()
+                .mapToDouble(entry -> entry.getValue() * 100.0 / capacities.get(entry.getKey()))
+                .toArray();
+        double mean = Arrays.stream(utilizations).average().orElse(0.0);
+        double variance = Arrays.stream(utilizations)
+                .map(utilization -> (utilization - mean) * (utilization - mean))
+                .average()
+                .orElse(0.0);
+        return Math.round(Math.sqrt(variance) * 100.0) / 100.0;
+    }
+
+    private static double percentage(double fraction) {
+        return Math.round(fraction * 100.0 * 100.0) / 100.0;
+    }
+
+    private UserResponse mapToUserResponse(MemberWorkload member) {
+        return UserResponse.builder()
+                .id(member.getId())
+                .email(member.getEmail())
+                .firstName(member.getFirstName())
+                .lastName(member.getLastName())
+                .role(member.getRole())
+                .currentWorkloadPoints(member.getCurrentWorkloadPoints())
+                .maxCapacityPoints(member.getMaxCapacityPoints())
+                .build();
+    }
+
     private TeamResponse mapToTeamResponse(Team team) {
         int memberCount = teamMemberRepository.findByTeamId(team.getId()).size();
 
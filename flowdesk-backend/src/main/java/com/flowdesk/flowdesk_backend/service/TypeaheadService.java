@@ -0,0 +1,351 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.dto.projection.TaskTypeaheadEntry;
+import com.flowdesk.flowdesk_backend.dto.projection.UserTypeaheadEntry;
+import com.flowdesk.flowdesk_backend.dto.response.TypeaheadSuggestionResponse;
+import com.flowdesk.flowdesk_backend.event.TasksArchivedEvent;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.TypeaheadType;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import com.flowdesk.flowdesk_backend.repository.TaskRepository;
+import com.flowdesk.flowdesk_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Typeahead index
+ * In-process prefix index over task titles and user names and emails for the assignee
+ * picker and task link boxes. Normalized tokens are kept in a sorted map, so a prefix
+ * lookup is a range scan that never touches the database. The index is rebuilt at
+ * startup and kept current by the services that write tasks and users, once their
+ * transaction has committed; archived tasks are dropped from it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TypeaheadService {
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 25;
+    private static final int MAX_QUERY_TOKENS = 5;
+    private static final int MAX_TOKENS_PER_ENTRY = 16;
+    private static final int MAX_TOKEN_LENGTH = 24;
+    private static final int MAX_LABEL_LENGTH = 120;
+    // Bounds the work of a very short prefix such as "a"
+    private static final int MAX_SCANNED_ENTRIES = 2000;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Caps memory use; entries beyond it are skipped until the next rebuild
+    @Value("${flowdesk.typeahead.max-entries:200000}")
+    private int maxEntries;
+
+    private volatile Index index = new Index();
+
+    // Writes made while a rebuild is reading the database, replayed onto the new index
+    private List<Consumer<Index>> pendingDuringRebuild;
+
+    /**
+     * Suggest tasks and users whose tokens start with every word of the query
+     */
+    public List<TypeaheadSuggestionResponse> suggest(String query, TypeaheadType type, UUID projectId, Integer limit) {
+        int max = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        List<String> prefixes = tokenize(query).stream()
+                .limit(MAX_QUERY_TOKENS)
+                .collect(Collectors.toList());
+        if (prefixes.isEmpty()) {
+            return List.of();
+        }
+
+        // The longest prefix selects the fewest entries; the others are checked per entry
+        String driver = prefixes.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+        Index current = index;
+
+        Set<Entry> matches = new LinkedHashSet<>();
+        int scanned = 0;
+        scan:
+        for (Set<Entry> postings : current.postings.subMap(driver, driver + Character.MAX_VALUE).values()) {
+            for (Entry entry : postings) {
+                if (++scanned > MAX_SCANNED_ENTRIES) {
+                    break scan;
+                }
+                if ((type == null || entry.type() == type)
+                        && (projectId == null || projectId.equals(entry.projectId()))
+                        && entry.matchesAll(prefixes)) {
+                    matches.add(entry);
+                    if (matches.size() >= max) {
+                        break scan;
+                    }
+                }
+            }
+        }
+
+        return matches.stream()
+                .map(Entry::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Index a created or updated task once the current transaction commits
+     */
+    public void indexTask(Task task) {
+        Entry entry = taskEntry(task.getId(), task.getTitle(), task.getProject().getId());
+        afterCommit(() -> put(entry));
+    }
+
+    /**
+     * Index created tasks once the current transaction commits
+     */
+    public void indexTasks(Collection<Task> tasks) {
+        List<Entry> entries = tasks.stream()
+                .map(task -> taskEntry(task.getId(), task.getTitle(), task.getProject().getId()))
+                .collect(Collectors.toList());
+        afterCommit(() -> entries.forEach(this::put));
+    }
+
+    /**
+     * Index a registered or updated user once the current transaction commits
+     */
+    public void indexUser(User user) {
+        Entry entry = userEntry(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getRole());
+        afterCommit(() -> put(entry));
+    }
+
+    /**
+     * Drop archived tasks once their archive batch has committed
+     */
+    @TransactionalEventListener
+    public void onTasksArchived(TasksArchivedEvent event) {
+        apply(target -> event.getTaskIds().forEach(id -> remove(target, new Key(TypeaheadType.TASK, id))));
+    }
+
+    /**
+     * Rebuild the index from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        synchronized (this) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+
+        Index rebuilt = new Index();
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> {
+                try (Stream<UserTypeaheadEntry> users = userRepository.streamTypeaheadEntries()) {
+                    users.forEach(user -> add(rebuilt, userEntry(user)));
+                }
+                try (Stream<TaskTypeaheadEntry> tasks = taskRepository.streamTypeaheadEntries()) {
+                    tasks.forEach(task -> add(rebuilt, taskEntry(task)));
+                }
+            });
+        } catch (RuntimeException e) {
+            // Keep serving the current index; live writes still reach it
+            log.error("Failed to rebuild typeahead index", e);
+            synchronized (this) {
+                pendingDuringRebuild = null;
+            }
+            return;
+        }
+
+        synchronized (this) {
+            pendingDuringRebuild.forEach(write -> write.accept(rebuilt));
+            pendingDuringRebuild = null;
+            index = rebuilt;
+        }
+        log.info("Typeahead index rebuilt with {} entries and {} tokens in {} ms",
+                rebuilt.entries.size(), rebuilt.postings.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Helper methods
+
+    private void put(Entry entry) {
+        apply(target -> add(target, entry));
+    }
+
+    private synchronized void apply(Consumer<Index> write) {
+        write.accept(index);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(write);
+        }
+    }
+
+    private void add(Index target, Entry entry) {
+        Key key = new Key(entry.type(), entry.id());
+        Entry previous = target.entries.get(key);
+        if (previous == null && target.entries.size() >= maxEntries) {
+            if (!target.full) {
+                target.full = true;
+                log.warn("Typeahead index reached {} entries; new entries are skipped until the next rebuild", maxEntries);
+            }
+            return;
+        }
+
+        target.entries.put(key, entry);
+        if (previous != null) {
+            removePostings(target, previous);
+        }
+        for (String token : entry.tokens()) {
+            target.postings.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(entry);
+        }
+    }
+
+    private void remove(Index target, Key key) {
+        Entry previous = target.entries.remove(key);
+        if (previous != null) {
+            removePostings(target, previous);
+        }
+    }
+
+    private void removePostings(Index target, Entry entry) {
+        for (String token : entry.tokens()) {
+            target.postings.computeIfPresent(token, (t, postings) -> {
+                postings.remove(entry);
+                return postings.isEmpty() ? null : postings;
+            });
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Entry taskEntry(TaskTypeaheadEntry task) {
+        return taskEntry(task.getId(), task.getTitle(), task.getProjectId());
+    }
+
+    private Entry taskEntry(UUID id, String title, UUID projectId) {
+        return new Entry(TypeaheadType.TASK, id, truncate(title), null, projectId, null, tokenArray(title));
+    }
+
+    private Entry userEntry(UserTypeaheadEntry user) {
+        return userEntry(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getRole());
+    }
+
+    private Entry userEntry(UUID id, String firstName, String lastName, String email, UserRole role) {
+        String name = firstName + " " + lastName;
+        return new Entry(TypeaheadType.USER, id, truncate(name), email, null, role, tokenArray(name + " " + email));
+    }
+
+    private static String[] tokenArray(String text) {
+        return tokenize(text).stream()
+                .limit(MAX_TOKENS_PER_ENTRY)
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Lower-cased, accent-free word tokens; the query is normalized the same way
+     */
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(TOKEN_SEPARATOR.split(normalized))
+                .filter(token -> !token.isEmpty())
+                .map(token -> token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static String truncate(String label) {
+        return label.length() > MAX_LABEL_LENGTH ? label.substring(0, MAX_LABEL_LENGTH) : label;
+    }
+
+    private record Key(TypeaheadType type, UUID id) {
+    }
+
+    private record Entry(TypeaheadType type, UUID id, String label, String detail,
+                         UUID projectId, UserRole role, String[] tokens) {
+
+        // Identity semantics so a replaced entry is removed from exactly its own postings
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        boolean matchesAll(List<String> prefixes) {
+            for (String prefix : prefixes) {
+                boolean found = false;
+                for (String token : tokens) {
+                    if (token.startsWith(prefix)) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        TypeaheadSuggestionResponse toResponse() {
+            return TypeaheadSuggestionResponse.builder()
+                    .type(type)
+                    .id(id)
+                    .label(label)
+                    .detail(detail)
+                    .projectId(projectId)
+                    .role(role)
+                    .build();
+        }
+    }
+
+    private static final class Index {
+        private final ConcurrentSkipListMap<String, Set<Entry>> postings = new ConcurrentSkipListMap<>();
+        private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+        private volatile boolean full;
+    }
+}
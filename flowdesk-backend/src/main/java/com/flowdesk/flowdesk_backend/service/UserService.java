@@ -9,10 +9,12 @@ import com.flowdesk.flowdesk_backend.model.Task;
 import com.flowdesk.flowdesk_backend.model.User;
 import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
 import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import com.flowdesk.flowdesk_backend.repository.SparseQueryRepository;
 import com.flowdesk.flowdesk_backend.repository.TaskRepository;
 import com.flowdesk.flowdesk_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +31,20 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
+    private final TypeaheadService typeaheadService;
+    private final SparseQueryRepository sparseQueryRepository;
+
+    // Fields selectable with ?fields= on user listings
+    private static final SparseFieldSet<UserResponse> USER_FIELDS = new SparseFieldSet<>(UserResponse::new)
+            .field("id", UserResponse::setId)
+            .field("email", UserResponse::setEmail)
+            .field("firstName", UserResponse::setFirstName)
+            .field("lastName", UserResponse::setLastName)
+            .field("role", UserResponse::setRole)
+            .field("skills", UserResponse::setSkills)
+            .field("currentWorkloadPoints", UserResponse::setCurrentWorkloadPoints)
+            .field("maxCapacityPoints", UserResponse::setMaxCapacityPoints)
+            .field("createdAt", UserResponse::setCreatedAt);
 
     /**
      * Get user by ID
@@ -68,6 +84,8 @@ public class UserService {
         User updatedUser = userRepository.save(user);
         log.info("User updated successfully: {}", updatedUser.getEmail());
 
+        typeaheadService.indexUser(updatedUser);
+
         return mapToUserResponse(updatedUser);
     }
 
@@ -133,9 +151,16 @@ public class UserService {
 
     /**
      * Get all developers
+     * With fields set, only those columns are selected and returned
      */
-    public List<UserResponse> getAllDevelopers() {
+    @Transactional(readOnly = true)
+    public List<UserResponse> getAllDevelopers(String fields) {
         log.info("Fetching all developers");
+        SparseFieldSet.Selection selection = USER_FIELDS.select(fields);
+        if (selection != null) {
+            return USER_FIELDS.map(sparseQueryRepository.findAll(User.class, selection.paths(),
+                    (root, query, cb) -> cb.equal(root.get("role"), UserRole.DEVELOPER), Sort.unsorted()), selection);
+        }
         List<User> developers = userRepository.findByRole(UserRole.DEVELOPER);
         return developers.stream()
                 .map(this::mapToUserResponse)
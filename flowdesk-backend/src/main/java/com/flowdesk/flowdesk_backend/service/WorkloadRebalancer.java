@@ -0,0 +1,252 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Greedy workload rebalancer
+ * Moves tasks one at a time until every member's utilization lies within a band around the
+ * team's utilization (total load over total capacity), or the move budget runs out. Each
+ * step fixes the member furthest outside the band: an overloaded member gives to the member
+ * with the most room below the upper bound, an underloaded one receives from the most
+ * utilized member. The task moved is the one whose points come closest to what both sides
+ * need, never pushing either of them outside the band. Heaps with lazily discarded entries
+ * and per-member point-indexed task sets keep each step logarithmic.
+ */
+final class WorkloadRebalancer {
+
+    private static final double EPSILON = 1e-9;
+
+    private final double tolerance;
+    private final int maxMoves;
+    private final Map<UUID, Member> members = new LinkedHashMap<>();
+
+    /**
+     * @param tolerance half-width of the band as a fraction of capacity (0.1 is +/- 10 points of utilization)
+     */
+    WorkloadRebalancer(double tolerance, int maxMoves) {
+        this.tolerance = tolerance;
+        this.maxMoves = maxMoves;
+    }
+
+    /**
+     * Add a member; members without capacity cannot be balanced and are left out
+     */
+    void addMember(UUID userId, int load, int capacity) {
+        if (capacity > 0) {
+            members.put(userId, new Member(userId, load, capacity));
+        }
+    }
+
+    /**
+     * Add a task that may be reassigned away from its current assignee
+     */
+    void addMovableTask(UUID taskId, UUID assigneeId, int points) {
+        Member member = members.get(assigneeId);
+        if (member != null && points > 0) {
+            member.movable.computeIfAbsent(points, p -> new ArrayDeque<>()).add(taskId);
+        }
+    }
+
+    Plan plan() {
+        long totalLoad = 0;
+        long totalCapacity = 0;
+        for (Member member : members.values()) {
+            totalLoad += member.load;
+            totalCapacity += member.capacity;
+        }
+        double target = totalCapacity == 0 ? 0 : (double) totalLoad / totalCapacity;
+        Band band = new Band(target, Math.max(0, target - tolerance), target + tolerance);
+
+        Map<UUID, Integer> initialLoads = loads();
+        Heaps heaps = new Heaps();
+        members.values().forEach(member -> heaps.push(member, band));
+
+        List<Move> moves = new ArrayList<>();
+        while (moves.size() < maxMoves) {
+            Member mostUtilized = heaps.peek(heaps.donors);
+            Member leastUtilized = heaps.peek(heaps.underloaded);
+            double over = mostUtilized != null ? mostUtilized.utilization() - band.upper() : 0;
+            double under = leastUtilized != null ? band.lower() - leastUtilized.utilization() : 0;
+            if (over <= EPSILON && under <= EPSILON) {
+                break;
+            }
+
+            boolean shedding = over >= under;
+            Member from = mostUtilized;
+            Member to = shedding ? heaps.peek(heaps.receivers) : leastUtilized;
+            if (from == null || to == null) {
+                break;
+            }
+
+            Integer points = from == to ? null : pickPoints(from, to, band);
+            if (points == null) {
+                // Nothing fits this pairing; the violating member is left as it is
+                if (shedding) {
+                    from.stuckDonor = true;
+                } else {
+                    to.stuckReceiver = true;
+                }
+                heaps.push(shedding ? from : to, band);
+                continue;
+            }
+
+            UUID taskId = from.take(points);
+            from.load -= points;
+            to.load += points;
+            moves.add(new Move(taskId, from.userId, to.userId, points, from.load, to.load));
+            heaps.push(from, band);
+            heaps.push(to, band);
+        }
+
+        return new Plan(band, moves, initialLoads, loads(), capacities());
+    }
+
+    // Helper methods
+
+    /**
+     * Points of the donor's task closest to what both sides need, within what both can take
+     */
+    private Integer pickPoints(Member from, Member to, Band band) {
+        int limit = Math.min(to.room(band), from.slack(band));
+        if (limit < 1) {
+            return null;
+        }
+
+        double needed = Math.min(from.load - band.target() * from.capacity, band.target() * to.capacity - to.load);
+        int ideal = (int) Math.max(1, Math.min(limit, Math.round(needed)));
+
+        Integer below = from.movable.floorKey(ideal);
+        Integer above = from.movable.ceilingKey(ideal);
+        if (above != null && above > limit) {
+            above = null;
+        }
+        if (below == null || above == null) {
+            return below != null ? below : above;
+        }
+        return ideal - below <= above - ideal ? below : above;
+    }
+
+    private Map<UUID, Integer> loads() {
+        Map<UUID, Integer> loads = new LinkedHashMap<>();
+        members.values().forEach(member -> loads.put(member.userId, member.load));
+        return loads;
+    }
+
+    private Map<UUID, Integer> capacities() {
+        Map<UUID, Integer> capacities = new LinkedHashMap<>();
+        members.values().forEach(member -> capacities.put(member.userId, member.capacity));
+        return capacities;
+    }
+
+    /**
+     * Target utilization and the band around it, as fractions of capacity
+     */
+    record Band(double target, double lower, double upper) {
+
+        boolean contains(int load, int capacity) {
+            double utilization = (double) load / capacity;
+            return utilization >= lower - EPSILON && utilization <= upper + EPSILON;
+        }
+    }
+
+    record Move(UUID taskId, UUID fromUserId, UUID toUserId, int points, int fromLoadAfter, int toLoadAfter) {
+    }
+
+    record Plan(Band band, List<Move> moves, Map<UUID, Integer> loadsBefore, Map<UUID, Integer> loadsAfter,
+                Map<UUID, Integer> capacities) {
+
+        boolean balancedBefore() {
+            return balanced(loadsBefore);
+        }
+
+        boolean balancedAfter() {
+            return balanced(loadsAfter);
+        }
+
+        private boolean balanced(Map<UUID, Integer> loads) {
+            return loads.entrySet().stream()
+                    .allMatch(entry -> band.contains(entry.getValue(), capacities.get(entry.getKey())));
+        }
+    }
+
+    private static final class Member {
+        private final UUID userId;
+        private final int capacity;
+        private int load;
+        // Movable task ids keyed by story points
+        private final TreeMap<Integer, Deque<UUID>> movable = new TreeMap<>();
+        private boolean stuckDonor;
+        private boolean stuckReceiver;
+        // Bumped on every change so heap entries taken before it are skipped
+        private int version;
+
+        private Member(UUID userId, int load, int capacity) {
+            this.userId = userId;
+            this.load = load;
+            this.capacity = capacity;
+        }
+
+        private double utilization() {
+            return (double) load / capacity;
+        }
+
+        // Points this member can take without going above the band
+        private int room(Band band) {
+            return (int) Math.floor(band.upper() * capacity - load + EPSILON);
+        }
+
+        // Points this member can give without going below the band
+        private int slack(Band band) {
+            return (int) Math.floor(load - band.lower() * capacity + EPSILON);
+        }
+
+        private UUID take(int points) {
+            Deque<UUID> tasks = movable.get(points);
+            UUID taskId = tasks.poll();
+            if (tasks.isEmpty()) {
+                movable.remove(points);
+            }
+            return taskId;
+        }
+    }
+
+    private record Entry(Member member, int version, double key) {
+    }
+
+    private static final class Heaps {
+        private final PriorityQueue<Entry> donors = new PriorityQueue<>(Comparator.comparingDouble(Entry::key).reversed());
+        private final PriorityQueue<Entry> receivers = new PriorityQueue<>(Comparator.comparingDouble(Entry::key).reversed());
+        private final PriorityQueue<Entry> underloaded = new PriorityQueue<>(Comparator.comparingDouble(Entry::key));
+
+        private void push(Member member, Band band) {
+            int version = ++member.version;
+            if (!member.movable.isEmpty() && !member.stuckDonor) {
+                donors.add(new Entry(member, version, member.utilization()));
+            }
+            if (!member.stuckReceiver) {
+                if (member.room(band) >= 1) {
+                    receivers.add(new Entry(member, version, member.room(band)));
+                }
+                if (member.utilization() < band.lower() - EPSILON) {
+                    underloaded.add(new Entry(member, version, member.utilization()));
+                }
+            }
+        }
+
+        private Member peek(PriorityQueue<Entry> heap) {
+            while (!heap.isEmpty() && heap.peek().version() != heap.peek().member().version) {
+                heap.poll();
+            }
+            return heap.isEmpty() ? null : heap.peek().member();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.flowdesk.flowdesk_backend.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Entity tag utility class for conditional requests
+ * Tags are weak and derived from version columns (updatedAt, counters), so they can be
+ * computed with a version-only query before any entity graph is loaded
+ */
+public final class ETagUtils {
+
+    // Browsers may keep the body but must revalidate it on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // Never part of a hex digest
+    private static final char RELATED_SEPARATOR = '-';
+
+    private ETagUtils() {
+    }
+
+    /**
+     * Build a weak entity tag from the values that version a resource
+     */
+    public static String weak(Object... versionParts) {
+        return "W/\"" + digest(versionParts) + "\"";
+    }
+
+    /**
+     * Extend a resource's tag with the versions of related rows shown in its response
+     * The resource's own tag stays the first part, so If-Match can still compare it alone
+     */
+    public static String extend(String etag, Object... relatedVersionParts) {
+        return etag.substring(0, etag.length() - 1) + RELATED_SEPARATOR + digest(relatedVersionParts) + "\"";
+    }
+
+    /**
+     * Whether an If-None-Match header lists the current tag
+     */
+    public static boolean isNotModified(String ifNoneMatch, String etag) {
+        return ifNoneMatch != null && listsTag(ifNoneMatch, etag, ETagUtils::opaqueTag);
+    }
+
+    /**
+     * Whether an If-Match header allows a write against the current tag
+     * Compared by opaque value of the resource's own part: related rows changing never fail a write
+     */
+    public static boolean matches(String ifMatch, String etag) {
+        return ifMatch == null || listsTag(ifMatch, etag, tag -> ownTag(opaqueTag(tag)));
+    }
+
+    /**
+     * 304 response carrying the current tag
+     */
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .build();
+    }
+
+    /**
+     * 200 response carrying the tag of the body
+     */
+    public static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(body);
+    }
+
+    // Helper methods
+
+    private static String digest(Object... versionParts) {
+        String raw = Arrays.stream(versionParts)
+                .map(ETagUtils::format)
+                .collect(Collectors.joining("|"));
+        return DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean listsTag(String header, String etag, UnaryOperator<String> comparedPart) {
+        if (header.trim().equals("*")) {
+            return true;
+        }
+        String current = comparedPart.apply(etag);
+        return Arrays.stream(header.split(","))
+                .map(String::trim)
+                .map(comparedPart)
+                .anyMatch(current::equals);
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    // Quoted tag without the related rows' part added by extend
+    private static String ownTag(String opaqueTag) {
+        int related = opaqueTag.indexOf(RELATED_SEPARATOR);
+        return related < 0 ? opaqueTag : opaqueTag.substring(0, related) + "\"";
+    }
+
+    private static String format(Object part) {
+        if (part == null) {
+            return "";
+        }
+        // Same precision as the timestamp columns, whether read back or freshly generated
+        if (part instanceof LocalDateTime dateTime) {
+            return dateTime.truncatedTo(ChronoUnit.MICROS).toString();
+        }
+        return part.toString();
+    }
+}
@@ -0,0 +1,42 @@
+-- Archive of long completed tasks, range-partitioned by completion month so old months can be
+-- detached or dropped as a whole. Hibernate cannot declare partitioned tables, so the table is
+-- not mapped; TaskArchiveService creates monthly partitions before moving tasks into them.
+-- Comments, subtasks and activities travel with their task as JSON arrays.
+-- Every statement is idempotent so the script can run on each startup.
+
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id uuid NOT NULL,
+    project_id uuid NOT NULL,
+    title varchar(255) NOT NULL,
+    description text,
+    status varchar(255) NOT NULL,
+    priority varchar(255) NOT NULL,
+    story_points integer NOT NULL,
+    assigned_to_user_id uuid,
+    estimated_hours integer,
+    actual_hours_logged integer NOT NULL,
+    start_date date,
+    due_date date,
+    completed_at timestamp(6) NOT NULL,
+    suggested_branch_name varchar(255),
+    pull_request_url varchar(255),
+    submitted_at timestamp(6),
+    risk_score numeric(5, 4),
+    risk_level varchar(255),
+    will_miss_deadline_prediction boolean,
+    ai_generated_summary text,
+    summary_generated_at timestamp(6),
+    created_by_user_id uuid NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6),
+    comments jsonb NOT NULL DEFAULT '[]',
+    subtasks jsonb NOT NULL DEFAULT '[]',
+    activities jsonb NOT NULL DEFAULT '[]',
+    archived_at timestamp(6) NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, completed_at)
+) PARTITION BY RANGE (completed_at);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_project_completed ON tasks_archive (project_id, completed_at);
+
+-- Lets the mover find archivable tasks without scanning live ones
+CREATE INDEX IF NOT EXISTS idx_tasks_done_completed_at ON tasks (completed_at) WHERE status = 'DONE';
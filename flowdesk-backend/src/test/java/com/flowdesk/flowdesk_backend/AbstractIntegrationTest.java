@@ -0,0 +1,107 @@
+package com.flowdesk.flowdesk_backend;
+
+import com.flowdesk.flowdesk_backend.model.Project;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.Team;
+import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.TaskPriority;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import com.flowdesk.flowdesk_backend.repository.ProjectRepository;
+import com.flowdesk.flowdesk_backend.repository.TaskRepository;
+import com.flowdesk.flowdesk_backend.repository.TeamRepository;
+import com.flowdesk.flowdesk_backend.repository.UserRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+/**
+ * Base for Spring Boot tests
+ * The application runs against a throwaway embedded PostgreSQL, started once per test JVM and
+ * deleted when it exits, so tests never write into the local development database while the
+ * native SQL (search columns, archive partitions) still runs on the real engine. Fixtures use
+ * fresh emails and names, so tests sharing the database do not see each other's rows.
+ */
+public abstract class AbstractIntegrationTest {
+
+	private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+	@Autowired
+	protected UserRepository userRepository;
+
+	@Autowired
+	protected TeamRepository teamRepository;
+
+	@Autowired
+	protected ProjectRepository projectRepository;
+
+	@Autowired
+	protected TaskRepository taskRepository;
+
+	@DynamicPropertySource
+	static void postgres(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url",
+				() -> "jdbc:postgresql://localhost:" + POSTGRES.getPort() + "/postgres?reWriteBatchedInserts=true");
+		registry.add("spring.datasource.username", () -> "postgres");
+		registry.add("spring.datasource.password", () -> "postgres");
+		registry.add("spring.jpa.show-sql", () -> "false");
+	}
+
+	// Fixtures
+
+	protected User createUser(UserRole role) {
+		User user = new User();
+		user.setEmail(role.name().toLowerCase() + "-" + UUID.randomUUID() + "@flowdesk.test");
+		user.setPasswordHash("not-used");
+		user.setFirstName("Test");
+		user.setLastName(role.name().charAt(0) + role.name().substring(1).toLowerCase());
+		user.setRole(role);
+		return userRepository.save(user);
+	}
+
+	protected Project createProject(User manager) {
+		Team team = new Team();
+		team.setName("Team " + UUID.randomUUID());
+		team.setManager(manager);
+		team = teamRepository.save(team);
+
+		Project project = new Project();
+		project.setName("Project " + UUID.randomUUID());
+		project.setTeam(team);
+		project.setManager(manager);
+		return projectRepository.save(project);
+	}
+
+	protected Task createTask(Project project, User creator, int storyPoints) {
+		Task task = new Task();
+		task.setProject(project);
+		task.setTitle("Task " + UUID.randomUUID());
+		task.setDescription("Test task");
+		task.setStoryPoints(storyPoints);
+		task.setPriority(TaskPriority.MEDIUM);
+		task.setStatus(TaskStatus.TODO);
+		task.setCreatedByUser(creator);
+		return taskRepository.save(task);
+	}
+
+	private static EmbeddedPostgres startPostgres() {
+		try {
+			EmbeddedPostgres postgres = EmbeddedPostgres.start();
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				try {
+					postgres.close();
+				} catch (IOException ignored) {
+					// The data directory is removed with the temp dir anyway
+				}
+			}));
+			return postgres;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to start embedded PostgreSQL", e);
+		}
+	}
+}
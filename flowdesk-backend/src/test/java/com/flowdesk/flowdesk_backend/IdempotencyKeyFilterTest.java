@@ -0,0 +1,127 @@
+package com.flowdesk.flowdesk_backend;
+
+import com.flowdesk.flowdesk_backend.model.IdempotencyRecord;
+import com.flowdesk.flowdesk_backend.model.Project;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import com.flowdesk.flowdesk_backend.repository.IdempotencyRecordRepository;
+import com.flowdesk.flowdesk_backend.security.IdempotencyKeyFilter;
+import com.flowdesk.flowdesk_backend.security.JwtUtil;
+import com.flowdesk.flowdesk_backend.service.IdempotencyService;
+import com.flowdesk.flowdesk_backend.service.IdempotencyService.Outcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Idempotency-Key handling over HTTP, including the async ML endpoints it must leave alone,
+ * and the takeover of claims whose request never finished
+ */
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		// Nothing listens here: ML calls fail fast and answer with their fallback
+		properties = "flowdesk.ml.base-url=http://localhost:1")
+class IdempotencyKeyFilterTest extends AbstractIntegrationTest {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private IdempotencyService idempotencyService;
+
+	@Autowired
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	private User manager;
+	private Project project;
+
+	@BeforeEach
+	void createFixtures() {
+		manager = createUser(UserRole.MANAGER);
+		project = createProject(manager);
+	}
+
+	@Test
+	void retriedCreateIsReplayed() {
+		String body = "{\"projectId\":\"" + project.getId() + "\",\"title\":\"Idempotent create\","
+				+ "\"priority\":\"MEDIUM\",\"storyPoints\":3}";
+		HttpEntity<String> request = new HttpEntity<>(body, headers("create-" + UUID.randomUUID()));
+
+		ResponseEntity<String> first = restTemplate.postForEntity("/api/tasks", request, String.class);
+		ResponseEntity<String> retry = restTemplate.postForEntity("/api/tasks", request, String.class);
+
+		assertEquals(HttpStatus.CREATED, first.getStatusCode());
+		assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+		assertEquals("true", retry.getHeaders().getFirst(IdempotencyKeyFilter.REPLAYED_HEADER));
+		assertEquals(first.getBody(), retry.getBody());
+		assertEquals(1, taskRepository.findByProjectId(project.getId()).size());
+	}
+
+	@Test
+	void asyncMlEndpointIgnoresKeyAndKeepsBody() {
+		Task task = createTask(project, manager, 3);
+		HttpEntity<Void> request = new HttpEntity<>(headers("summary-" + UUID.randomUUID()));
+
+		for (int attempt = 0; attempt < 2; attempt++) {
+			ResponseEntity<String> response = restTemplate.exchange(
+					"/api/tasks/" + task.getId() + "/summary", HttpMethod.POST, request, String.class);
+
+			// The summary falls back to the title; an empty body means the response was captured too early
+			assertEquals(HttpStatus.OK, response.getStatusCode());
+			assertEquals(task.getTitle(), response.getBody());
+			assertNull(response.getHeaders().getFirst(IdempotencyKeyFilter.REPLAYED_HEADER));
+		}
+	}
+
+	@Test
+	void staleClaimIsTakenOver() {
+		String key = "stale-" + UUID.randomUUID();
+		IdempotencyRecord abandoned = idempotencyService.claim(manager.getEmail(), key, "fingerprint").record();
+		assertEquals(Outcome.IN_PROGRESS, idempotencyService.claim(manager.getEmail(), key, "fingerprint").outcome());
+
+		// The first owner stopped answering longer ago than the claim timeout
+		abandoned.setClaimedAt(abandoned.getClaimedAt().minus(Duration.ofMinutes(5)));
+		idempotencyRecordRepository.save(abandoned);
+
+		IdempotencyService.Claim takeover = idempotencyService.claim(manager.getEmail(), key, "fingerprint");
+		assertEquals(Outcome.STARTED, takeover.outcome());
+		assertEquals(Outcome.IN_PROGRESS, idempotencyService.claim(manager.getEmail(), key, "fingerprint").outcome());
+
+		// A late answer from the first owner neither stores its response nor releases the new claim
+		idempotencyService.complete(abandoned, 201, MediaType.APPLICATION_JSON_VALUE, "{\"from\":\"first\"}");
+		idempotencyService.abandon(abandoned);
+		idempotencyService.complete(takeover.record(), 201, MediaType.APPLICATION_JSON_VALUE, "{\"from\":\"second\"}");
+
+		IdempotencyService.Claim replay = idempotencyService.claim(manager.getEmail(), key, "fingerprint");
+		assertEquals(Outcome.REPLAY, replay.outcome());
+		assertEquals("{\"from\":\"second\"}", replay.record().getResponseBody());
+	}
+
+	// Helper methods
+
+	private HttpHeaders headers(String idempotencyKey) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setBearerAuth(jwtUtil.generateToken(manager.getEmail()));
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.set(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+		return headers;
+	}
+}
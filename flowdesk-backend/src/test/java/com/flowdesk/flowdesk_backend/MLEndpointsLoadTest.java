@@ -0,0 +1,199 @@
+package com.flowdesk.flowdesk_backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import com.flowdesk.flowdesk_backend.security.JwtUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test for the ML-backed task endpoints against a stub ML service.
+ * Tomcat gets a small fixed pool of request threads and the stub holds every call until more
+ * requests are waiting on it than there are request threads. That point is only reached when
+ * handlers release their thread during the remote call; a blocking handler fails the test
+ * instead of merely making it slower.
+ */
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {
+				"server.tomcat.threads.max=" + MLEndpointsLoadTest.REQUEST_THREADS,
+				"server.tomcat.threads.min-spare=" + MLEndpointsLoadTest.REQUEST_THREADS,
+				"flowdesk.ml.bulkhead.max-concurrent-calls=" + MLEndpointsLoadTest.CONCURRENT_REQUESTS
+		})
+class MLEndpointsLoadTest extends AbstractIntegrationTest {
+
+	static final int REQUEST_THREADS = 4;
+	static final int CONCURRENT_REQUESTS = 5 * REQUEST_THREADS;
+
+	// Upper bound on waiting for the stub; only reached when the test fails
+	private static final long WAIT_SECONDS = 30;
+
+	private static final String SUMMARY = "Stub summary";
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private static HttpServer mlService;
+
+	// Callers held by the stub in the current round, and the signal that lets them all answer
+	private static volatile CountDownLatch arrived;
+	private static volatile CountDownLatch release;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	private UUID taskId;
+	private String token;
+
+	@DynamicPropertySource
+	static void mlService(DynamicPropertyRegistry registry) throws IOException {
+		mlService = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENT_REQUESTS);
+		mlService.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		mlService.createContext("/api/ml/generate-summary", exchange -> {
+			exchange.getRequestBody().readAllBytes();
+			holdCallers(1);
+			respond(exchange, "{\"summary\":\"" + SUMMARY + "\"}");
+		});
+		mlService.createContext("/api/ml/predict-risk-batch", exchange -> {
+			// Micro-batched: each task in the batch is a caller waiting on this call
+			JsonNode tasks = MAPPER.readTree(exchange.getRequestBody()).get("tasks");
+			holdCallers(tasks.size());
+			StringBuilder predictions = new StringBuilder();
+			for (JsonNode task : tasks) {
+				predictions.append(predictions.isEmpty() ? "" : ",")
+						.append("{\"id\":\"").append(task.get("id").asText())
+						.append("\",\"riskLevel\":\"HIGH\",\"riskScore\":0.9,\"confidence\":\"HIGH\"}");
+			}
+			respond(exchange, "{\"predictions\":[" + predictions + "]}");
+		});
+		mlService.createContext("/api/ml/recommend-assignee", exchange -> {
+			exchange.getRequestBody().readAllBytes();
+			holdCallers(1);
+			respond(exchange, "[{\"developerId\":\"" + UUID.randomUUID() + "\",\"name\":\"Stub developer\"}]");
+		});
+		mlService.start();
+		registry.add("flowdesk.ml.base-url", () -> "http://localhost:" + mlService.getAddress().getPort());
+	}
+
+	@AfterAll
+	static void stopMlService() {
+		mlService.stop(0);
+	}
+
+	@BeforeEach
+	void createFixtures() {
+		User manager = createUser(UserRole.MANAGER);
+		taskId = createTask(createProject(manager), manager, 3).getId();
+		token = jwtUtil.generateToken(manager.getEmail());
+	}
+
+	@Test
+	void summaryDoesNotHoldRequestThreads() throws InterruptedException {
+		assertRequestThreadsReleased("POST", "/summary", body -> assertEquals(SUMMARY, body));
+	}
+
+	@Test
+	void riskDoesNotHoldRequestThreads() throws InterruptedException {
+		assertRequestThreadsReleased("GET", "/risk",
+				body -> assertEquals("HIGH", readTree(body).get("riskLevel").asText()));
+	}
+
+	@Test
+	void assigneeRecommendationsDoNotHoldRequestThreads() throws InterruptedException {
+		assertRequestThreadsReleased("POST", "/recommend-assignees",
+				body -> assertEquals("Stub developer", readTree(body).get(0).get("name").asText()));
+	}
+
+	// Helper methods
+
+	private void assertRequestThreadsReleased(String method, String path, Consumer<String> bodyAssertion)
+			throws InterruptedException {
+		arrived = new CountDownLatch(CONCURRENT_REQUESTS);
+		release = new CountDownLatch(1);
+
+		HttpClient client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.build();
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/" + taskId + path))
+				.header("Authorization", "Bearer " + token)
+				.method(method, HttpRequest.BodyPublishers.noBody())
+				.build();
+
+		List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+			responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+		}
+
+		try {
+			// All requests waiting on the ML service at once: more than Tomcat has request threads
+			assertTrue(arrived.await(WAIT_SECONDS, TimeUnit.SECONDS),
+					(CONCURRENT_REQUESTS - arrived.getCount()) + " of " + CONCURRENT_REQUESTS + " requests reached the"
+							+ " ML service on " + REQUEST_THREADS + " request threads; threads are held during ML calls");
+		} finally {
+			release.countDown();
+		}
+
+		for (CompletableFuture<HttpResponse<String>> response : responses) {
+			HttpResponse<String> answered = response.join();
+			assertEquals(200, answered.statusCode());
+			bodyAssertion.accept(answered.body());
+		}
+	}
+
+	private static void holdCallers(int callers) {
+		for (int i = 0; i < callers; i++) {
+			arrived.countDown();
+		}
+		try {
+			release.await(WAIT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void respond(HttpExchange exchange, String json) throws IOException {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, body.length);
+		exchange.getResponseBody().write(body);
+		exchange.close();
+	}
+
+	private static JsonNode readTree(String json) {
+		try {
+			return MAPPER.readTree(json);
+		} catch (IOException e) {
+			throw new AssertionError("Response is not JSON: " + json, e);
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package com.flowdesk.flowdesk_backend;
+
+import com.flowdesk.flowdesk_backend.dto.response.ProjectProgressResponse;
+import com.flowdesk.flowdesk_backend.dto.response.TaskResponse;
+import com.flowdesk.flowdesk_backend.model.Comment;
+import com.flowdesk.flowdesk_backend.model.Project;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.TaskActivity;
+import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.ActivityType;
+import com.flowdesk.flowdesk_backend.model.enums.TaskExportFormat;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import com.flowdesk.flowdesk_backend.model.enums.TypeaheadType;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import com.flowdesk.flowdesk_backend.repository.CommentRepository;
+import com.flowdesk.flowdesk_backend.repository.TaskActivityRepository;
+import com.flowdesk.flowdesk_backend.service.ProjectService;
+import com.flowdesk.flowdesk_backend.service.ProjectStoryPointService;
+import com.flowdesk.flowdesk_backend.service.TaskArchiveService;
+import com.flowdesk.flowdesk_backend.service.TaskExportService;
+import com.flowdesk.flowdesk_backend.service.TaskService;
+import com.flowdesk.flowdesk_backend.service.TypeaheadService;
+import com.flowdesk.flowdesk_backend.util.ETagUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Moving a long completed task into the partitioned archive
+ * Runs the archive DDL and the move statements on PostgreSQL, then checks that the task's
+ * children travelled with it and that reads still see the task.
+ */
+@SpringBootTest
+class TaskArchiveTest extends AbstractIntegrationTest {
+
+	@Autowired
+	private TaskArchiveService taskArchiveService;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private ProjectService projectService;
+
+	@Autowired
+	private ProjectStoryPointService projectStoryPointService;
+
+	@Autowired
+	private TaskExportService taskExportService;
+
+	@Autowired
+	private TypeaheadService typeaheadService;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private TaskActivityRepository taskActivityRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void archivesCompletedTaskWithItsChildren() throws IOException {
+		User manager = createUser(UserRole.MANAGER);
+		Project project = createProject(manager);
+		projectStoryPointService.createSlots(project);
+
+		Task done = createTask(project, manager, 5);
+		done.setStatus(TaskStatus.DONE);
+		done.setCompletedAt(LocalDateTime.now().minusDays(400));
+		done = taskRepository.save(done);
+		Task open = createTask(project, manager, 3);
+		typeaheadService.indexTask(done);
+
+		Comment comment = new Comment();
+		comment.setTask(done);
+		comment.setUser(manager);
+		comment.setContent("Shipped in the spring release");
+		commentRepository.save(comment);
+
+		TaskActivity activity = new TaskActivity();
+		activity.setTask(done);
+		activity.setUser(manager);
+		activity.setActivityType(ActivityType.COMPLETED);
+		activity.setDescription("Task completed");
+		activity.setCreatedAt(LocalDateTime.now());
+		taskActivityRepository.save(activity);
+
+		assertFalse(typeaheadService.suggest(done.getTitle(), TypeaheadType.TASK, project.getId(), null).isEmpty());
+
+		taskArchiveService.archiveCompletedTasks();
+
+		assertFalse(taskRepository.existsById(done.getId()));
+		assertTrue(taskRepository.existsById(open.getId()));
+		Map<String, Object> archived = jdbcTemplate.queryForMap(
+				"SELECT comments->0->>'content' AS comment, activities->0->>'activity_type' AS activity, " +
+						"jsonb_array_length(comments) AS comments, jsonb_array_length(activities) AS activities " +
+						"FROM tasks_archive WHERE id = ?", done.getId());
+		assertEquals("Shipped in the spring release", archived.get("comment"));
+		assertEquals("COMPLETED", archived.get("activity"));
+		assertEquals(1, archived.get("comments"));
+		assertEquals(1, archived.get("activities"));
+		assertEquals(0, jdbcTemplate.queryForObject(
+				"SELECT count(*) FROM comments WHERE task_id = ?", Integer.class, done.getId()));
+
+		String etag = taskService.getTaskETag(done.getId());
+		assertTrue(ETagUtils.isNotModified(etag, taskService.getTaskETag(done.getId())));
+		TaskResponse read = taskService.getTaskById(done.getId());
+		assertEquals(TaskStatus.DONE, read.getStatus());
+		assertEquals(done.getTitle(), read.getTitle());
+
+		ProjectProgressResponse progress = projectService.getProjectProgress(project.getId());
+		assertEquals(2, progress.getTotalTasks());
+		assertEquals(1, progress.getCompletedTasks());
+
+		ByteArrayOutputStream export = new ByteArrayOutputStream();
+		taskExportService.exportTasks(project.getId(), TaskExportFormat.NDJSON, false).writeTo(export);
+		String[] lines = export.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2, lines.length);
+		assertTrue(lines[0].contains(open.getId().toString()));
+		assertTrue(lines[1].contains(done.getId().toString()));
+		assertTrue(lines[1].contains("\"status\":\"DONE\""));
+
+		assertTrue(typeaheadService.suggest(done.getTitle(), TypeaheadType.TASK, project.getId(), null).isEmpty());
+	}
+}
@@ -0,0 +1,116 @@
+package com.flowdesk.flowdesk_backend;
+
+import com.flowdesk.flowdesk_backend.dto.projection.ProjectStoryPoints;
+import com.flowdesk.flowdesk_backend.dto.request.AssignTaskRequest;
+import com.flowdesk.flowdesk_backend.dto.request.CreateTaskRequest;
+import com.flowdesk.flowdesk_backend.model.Project;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.TaskPriority;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import com.flowdesk.flowdesk_backend.service.DashboardReadModelService;
+import com.flowdesk.flowdesk_backend.service.ProjectStoryPointService;
+import com.flowdesk.flowdesk_backend.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Workload and story point counters under concurrent assignments and status changes
+ * Many threads move the same few tasks between developers and in and out of DONE; afterwards
+ * every counter must still equal the sum over the tasks it is derived from.
+ */
+@SpringBootTest
+class TaskCounterConcurrencyTest extends AbstractIntegrationTest {
+
+	private static final int THREADS = 8;
+	private static final int OPERATIONS_PER_THREAD = 40;
+	private static final int TASKS = 6;
+	private static final int DEVELOPERS = 4;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private ProjectStoryPointService projectStoryPointService;
+
+	// Each change would queue async dashboard refreshes that are not under test and outlive it
+	@MockitoBean
+	private DashboardReadModelService dashboardReadModelService;
+
+	@Test
+	void countersMatchTasksAfterConcurrentAssignments() throws InterruptedException {
+		User manager = createUser(UserRole.MANAGER);
+		Project project = createProject(manager);
+		projectStoryPointService.createSlots(project);
+
+		List<UUID> developerIds = new ArrayList<>();
+		for (int i = 0; i < DEVELOPERS; i++) {
+			developerIds.add(createUser(UserRole.DEVELOPER).getId());
+		}
+		List<UUID> taskIds = new ArrayList<>();
+		for (int i = 0; i < TASKS; i++) {
+			CreateTaskRequest request = new CreateTaskRequest();
+			request.setProjectId(project.getId());
+			request.setTitle("Contended task " + i);
+			request.setPriority(TaskPriority.MEDIUM);
+			request.setStoryPoints(1 + i);
+			request.setAssignedToUserId(developerIds.get(i % DEVELOPERS));
+			taskIds.add(taskService.createTask(request, manager.getId()).getId());
+		}
+
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		for (int thread = 0; thread < THREADS; thread++) {
+			executor.execute(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				for (int operation = 0; operation < OPERATIONS_PER_THREAD; operation++) {
+					UUID taskId = taskIds.get(random.nextInt(TASKS));
+					try {
+						if (random.nextInt(3) == 0) {
+							taskService.updateTaskStatus(taskId, random.nextBoolean() ? TaskStatus.DONE : TaskStatus.IN_PROGRESS);
+						} else {
+							taskService.assignTask(taskId, new AssignTaskRequest(developerIds.get(random.nextInt(DEVELOPERS))));
+						}
+					} catch (Throwable e) {
+						failures.add(e);
+					}
+				}
+			});
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES), "Concurrent updates did not finish");
+		assertTrue(failures.isEmpty(), () -> "Concurrent updates failed: " + failures);
+
+		List<Task> tasks = taskRepository.findAllById(taskIds);
+		for (UUID developerId : developerIds) {
+			int openPoints = tasks.stream()
+					.filter(task -> task.getStatus() != TaskStatus.DONE)
+					.filter(task -> developerId.equals(task.getAssignedToUser().getId()))
+					.mapToInt(Task::getStoryPoints)
+					.sum();
+			assertEquals(openPoints, userRepository.findById(developerId).orElseThrow().getCurrentWorkloadPoints(),
+					"Workload of developer " + developerId);
+		}
+
+		ProjectStoryPoints points = projectStoryPointService.getStoryPoints(project.getId());
+		assertEquals(tasks.stream().mapToInt(Task::getStoryPoints).sum(), points.getTotalStoryPoints());
+		assertEquals(tasks.stream().filter(task -> task.getStatus() == TaskStatus.DONE).mapToInt(Task::getStoryPoints).sum(),
+				points.getCompletedStoryPoints());
+	}
+}
@@ -0,0 +1,101 @@
+package com.flowdesk.flowdesk_backend;
+
+import com.flowdesk.flowdesk_backend.dto.request.UpdateTaskRequest;
+import com.flowdesk.flowdesk_backend.model.Project;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import com.flowdesk.flowdesk_backend.service.DashboardReadModelService;
+import com.flowdesk.flowdesk_backend.service.TaskService;
+import com.flowdesk.flowdesk_backend.util.ETagUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Entity tags of task responses
+ * A read tag must change with anything the response shows, while a write is only refused when
+ * the task row itself changed since it was read.
+ */
+@SpringBootTest
+class TaskETagTest extends AbstractIntegrationTest {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// Dashboard refreshes after each task change are not under test
+	@MockitoBean
+	private DashboardReadModelService dashboardReadModelService;
+
+	@Test
+	void renamedAssigneeChangesTheReadTagButNotTheWriteCheck() {
+		User manager = createUser(UserRole.MANAGER);
+		User developer = createUser(UserRole.DEVELOPER);
+		Project project = createProject(manager);
+		Task task = createTask(project, manager, 3);
+		task.setAssignedToUser(developer);
+		taskRepository.save(task);
+
+		String read = taskService.getTaskETag(task.getId());
+		assertTrue(ETagUtils.isNotModified(read, taskService.getTaskETag(task.getId())));
+
+		developer.setFirstName("Renamed");
+		userRepository.saveAndFlush(developer);
+		String afterRename = taskService.getTaskETag(task.getId());
+
+		assertNotEquals(read, afterRename);
+		assertFalse(ETagUtils.isNotModified(read, afterRename));
+		assertTrue(ETagUtils.matches(read, afterRename));
+
+		// The stale read tag still allows the edit, which in turn invalidates it for writes
+		taskService.updateTask(task.getId(), update(task), read);
+		assertFalse(ETagUtils.matches(read, taskService.getTaskETag(task.getId())));
+	}
+
+	@Test
+	void riskScoringChangesTheReadTagButNotTheWriteCheck() {
+		User manager = createUser(UserRole.MANAGER);
+		Project project = createProject(manager);
+		Task task = createTask(project, manager, 3);
+		String read = taskService.getTaskETag(task.getId());
+
+		// Scoring writes the risk columns alone, leaving updatedAt as it was
+		jdbcTemplate.update("UPDATE tasks SET risk_level = 'HIGH', risk_score = 0.9100, " +
+				"will_miss_deadline_prediction = true WHERE id = ?", task.getId());
+		String afterScoring = taskService.getTaskETag(task.getId());
+
+		assertFalse(ETagUtils.isNotModified(read, afterScoring));
+		assertTrue(ETagUtils.matches(read, afterScoring));
+	}
+
+	@Test
+	void tagOfAnotherTaskNeverMatches() {
+		User manager = createUser(UserRole.MANAGER);
+		Project project = createProject(manager);
+		String first = taskService.getTaskETag(createTask(project, manager, 1).getId());
+		String second = taskService.getTaskETag(createTask(project, manager, 1).getId());
+
+		assertFalse(ETagUtils.matches(first, second));
+		assertFalse(ETagUtils.isNotModified(first, second));
+	}
+
+	// Helper methods
+
+	private static UpdateTaskRequest update(Task task) {
+		return UpdateTaskRequest.builder()
+				.title(task.getTitle() + " (edited)")
+				.description(task.getDescription())
+				.priority(task.getPriority())
+				.storyPoints(task.getStoryPoints())
+				.build();
+	}
+}
@@ -0,0 +1,87 @@
+package com.flowdesk.flowdesk_backend;
+
+import com.flowdesk.flowdesk_backend.model.Project;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.TeamMember;
+import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.TaskSortOrder;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import com.flowdesk.flowdesk_backend.repository.TeamMemberRepository;
+import com.flowdesk.flowdesk_backend.service.DashboardService;
+import com.flowdesk.flowdesk_backend.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Statements issued by task listings and dashboards
+ * Every task has its own assignee and creator, so a lazy association loaded per task would
+ * show up as statements growing with the number of tasks.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskFetchPlanTest extends AbstractIntegrationTest {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private DashboardService dashboardService;
+
+	@Autowired
+	private TeamMemberRepository teamMemberRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@ParameterizedTest
+	@ValueSource(ints = {3, 30})
+	void statementsDoNotGrowWithTasks(int taskCount) {
+		User manager = createUser(UserRole.MANAGER);
+		Project project = createProject(manager);
+		List<Task> tasks = new ArrayList<>();
+		for (int i = 0; i < taskCount; i++) {
+			User developer = createUser(UserRole.DEVELOPER);
+			TeamMember member = new TeamMember();
+			member.setTeam(project.getTeam());
+			member.setUser(developer);
+			teamMemberRepository.save(member);
+
+			Task task = createTask(project, createUser(UserRole.DEVELOPER), 2);
+			task.setAssignedToUser(developer);
+			task.setDueDate(LocalDate.now().plusDays(1 + i % 5));
+			tasks.add(taskRepository.save(task));
+		}
+		User developer = tasks.get(0).getAssignedToUser();
+
+		assertEquals(1, statements(() -> assertEquals(taskCount,
+				taskService.getTasksByProject(project.getId(), TaskSortOrder.CREATED_AT, null, 50, null).getTasks().size())));
+		// Dated tasks first, then undated ones
+		assertEquals(2, statements(() -> assertEquals(taskCount,
+				taskService.getTasksByProject(project.getId(), TaskSortOrder.DUE_DATE, null, 50, null).getTasks().size())));
+		assertEquals(1, statements(() -> taskService.getTaskById(tasks.get(taskCount - 1).getId())));
+		assertEquals(1, statements(() -> assertEquals(1, taskService.getUpcomingDeadlines(developer.getId(), 7).size())));
+		assertEquals(6, statements(() -> assertEquals(taskCount,
+				dashboardService.getManagerDashboard(manager.getId()).getTeamWorkload().size())));
+		assertEquals(4, statements(() -> assertEquals(1,
+				dashboardService.getDeveloperDashboard(developer.getId()).getUpcomingDeadlines().size())));
+	}
+
+	// Helper methods
+
+	private long statements(Runnable action) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		action.run();
+		return statistics.getPrepareStatementCount();
+	}
+}
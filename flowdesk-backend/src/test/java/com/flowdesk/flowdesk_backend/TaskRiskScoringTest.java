@@ -0,0 +1,88 @@
+package com.flowdesk.flowdesk_backend;
+
+import com.flowdesk.flowdesk_backend.dto.ml.BatchRiskPredictionResponse;
+import com.flowdesk.flowdesk_backend.dto.projection.RiskScoringRow;
+import com.flowdesk.flowdesk_backend.model.Project;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.User;
+import com.flowdesk.flowdesk_backend.model.enums.RiskLevel;
+import com.flowdesk.flowdesk_backend.model.enums.UserRole;
+import com.flowdesk.flowdesk_backend.service.DashboardReadModelService;
+import com.flowdesk.flowdesk_backend.service.MLServiceClient;
+import com.flowdesk.flowdesk_backend.service.TaskRiskScoringService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * Writing back a scoring run's predictions
+ * The ML service is a mock that rates every task it is sent as high risk; one task is finished
+ * while its page is being scored, which the write must leave alone.
+ */
+@SpringBootTest
+class TaskRiskScoringTest extends AbstractIntegrationTest {
+
+	@Autowired
+	private TaskRiskScoringService taskRiskScoringService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private MLServiceClient mlServiceClient;
+
+	// Dashboard refreshes after the run are not under test
+	@MockitoBean
+	private DashboardReadModelService dashboardReadModelService;
+
+	@Test
+	void changedPredictionsAreWrittenToOpenTasksOnly() {
+		User manager = createUser(UserRole.MANAGER);
+		Project project = createProject(manager);
+		Task open = createTask(project, manager, 3);
+		Task finished = createTask(project, manager, 5);
+		LocalDateTime lastEdit = taskRepository.findById(open.getId()).orElseThrow().getUpdatedAt();
+
+		when(mlServiceClient.predictTaskRisks(anyList())).thenAnswer(invocation -> {
+			jdbcTemplate.update("UPDATE tasks SET status = 'DONE' WHERE id = ?", finished.getId());
+			List<RiskScoringRow> page = invocation.getArgument(0);
+			return Mono.just(page.stream().map(TaskRiskScoringTest::highRisk).toList());
+		});
+
+		taskRiskScoringService.scoreOpenTasks();
+
+		Task scored = taskRepository.findById(open.getId()).orElseThrow();
+		assertEquals(RiskLevel.HIGH, scored.getRiskLevel());
+		assertEquals(0, new BigDecimal("0.9123").compareTo(scored.getRiskScore()));
+		assertTrue(scored.getWillMissDeadlinePrediction());
+		assertEquals(lastEdit, scored.getUpdatedAt());
+
+		Task unscored = taskRepository.findById(finished.getId()).orElseThrow();
+		assertNull(unscored.getRiskLevel());
+		assertNull(unscored.getRiskScore());
+	}
+
+	// Helper methods
+
+	private static BatchRiskPredictionResponse.Prediction highRisk(RiskScoringRow row) {
+		BatchRiskPredictionResponse.Prediction prediction = new BatchRiskPredictionResponse.Prediction();
+		prediction.setId(row.getId());
+		prediction.setRiskLevel("HIGH");
+		prediction.setRiskScore(0.91234);
+		prediction.setWillMissDeadline(true);
+		return prediction;
+	}
+}
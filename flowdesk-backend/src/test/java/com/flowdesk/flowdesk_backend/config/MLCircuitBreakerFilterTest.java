@@ -0,0 +1,251 @@
+package com.flowdesk.flowdesk_backend.config;
+
+import com.flowdesk.flowdesk_backend.config.MLCircuitBreakerFilter.State;
+import com.flowdesk.flowdesk_backend.exception.MLServiceUnavailableException;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.service.MLServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Breaker and bulkhead in front of a stub exchange
+ * The stub answers with whatever the test sets up and counts the calls that reach it, so a
+ * rejected call is one that never got there.
+ */
+class MLCircuitBreakerFilterTest {
+
+	// Long enough that no test sees the breaker leave the open state by itself
+	private static final Duration OPEN_DURATION = Duration.ofMinutes(1);
+	private static final Duration SHORT_OPEN_DURATION = Duration.ofMillis(100);
+
+	private static final ClientRequest REQUEST =
+			ClientRequest.create(HttpMethod.POST, URI.create("http://ml-service/api/ml/generate-summary")).build();
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AtomicInteger exchanged = new AtomicInteger();
+	private volatile Supplier<Mono<ClientResponse>> answer = () -> respond(HttpStatus.OK);
+
+	private final ExchangeFunction stub = request -> Mono.defer(() -> {
+		exchanged.incrementAndGet();
+		return answer.get();
+	});
+
+	private MLCircuitBreakerFilter breaker = breaker(OPEN_DURATION);
+
+	@Test
+	void staysClosedBelowTheFailureRate() {
+		call(HttpStatus.OK);
+		call(HttpStatus.INTERNAL_SERVER_ERROR);
+		call(HttpStatus.OK);
+		call(HttpStatus.OK);
+		// Oldest outcome drops out of the window: still one failure in four
+		call(HttpStatus.OK);
+
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void doesNotOpenBeforeTheMinimumCalls() {
+		call(HttpStatus.INTERNAL_SERVER_ERROR);
+		call(HttpStatus.INTERNAL_SERVER_ERROR);
+		call(HttpStatus.INTERNAL_SERVER_ERROR);
+
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void opensAtTheFailureRateAndRejectsWithoutCalling() {
+		open();
+		int before = exchanged.get();
+
+		assertThrows(MLServiceUnavailableException.class, () -> call(HttpStatus.OK));
+
+		assertEquals(before, exchanged.get());
+		assertEquals(1.0, rejected("circuit-open"));
+		assertEquals(1.0, transitions(State.CLOSED, State.OPEN));
+	}
+
+	@Test
+	void connectionErrorsCountAsFailures() {
+		answer = () -> Mono.error(new IllegalStateException("Connection refused"));
+		for (int i = 0; i < 4; i++) {
+			assertThrows(IllegalStateException.class, () -> filter().block());
+		}
+
+		assertEquals(State.OPEN, breaker.getState());
+	}
+
+	@Test
+	void halfOpenTrialsSucceedingCloseTheBreaker() throws InterruptedException {
+		breaker = breaker(SHORT_OPEN_DURATION);
+		open();
+		Thread.sleep(SHORT_OPEN_DURATION.toMillis() + 20);
+
+		call(HttpStatus.OK);
+		assertEquals(State.HALF_OPEN, breaker.getState());
+		call(HttpStatus.OK);
+
+		assertEquals(State.CLOSED, breaker.getState());
+		assertEquals(1.0, transitions(State.HALF_OPEN, State.CLOSED));
+		// The window starts over: three failures are below the minimum calls
+		call(HttpStatus.INTERNAL_SERVER_ERROR);
+		call(HttpStatus.INTERNAL_SERVER_ERROR);
+		call(HttpStatus.INTERNAL_SERVER_ERROR);
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void failingHalfOpenTrialOpensTheBreakerAgain() throws InterruptedException {
+		breaker = breaker(SHORT_OPEN_DURATION);
+		open();
+		Thread.sleep(SHORT_OPEN_DURATION.toMillis() + 20);
+
+		call(HttpStatus.OK);
+		call(HttpStatus.SERVICE_UNAVAILABLE);
+
+		assertEquals(State.OPEN, breaker.getState());
+		assertEquals(1.0, transitions(State.HALF_OPEN, State.OPEN));
+		assertThrows(MLServiceUnavailableException.class, () -> call(HttpStatus.OK));
+	}
+
+	@Test
+	void halfOpenAdmitsOnlyTheTrialCalls() throws InterruptedException {
+		breaker = breaker(SHORT_OPEN_DURATION);
+		open();
+		Thread.sleep(SHORT_OPEN_DURATION.toMillis() + 20);
+		Sinks.One<ClientResponse> pending = Sinks.one();
+		answer = pending::asMono;
+
+		Disposable first = filter().subscribe();
+		Disposable second = filter().subscribe();
+
+		assertEquals(State.HALF_OPEN, breaker.getState());
+		assertThrows(MLServiceUnavailableException.class, () -> filter().block());
+		first.dispose();
+		second.dispose();
+	}
+
+	@Test
+	void bulkheadRejectsCallsBeyondTheLimit() {
+		Sinks.One<ClientResponse> pending = Sinks.one();
+		answer = pending::asMono;
+		Disposable first = filter().flatMap(ClientResponse::releaseBody).subscribe();
+		Disposable second = filter().flatMap(ClientResponse::releaseBody).subscribe();
+
+		assertThrows(MLServiceUnavailableException.class, () -> filter().block());
+		assertEquals(2, exchanged.get());
+		assertEquals(1.0, rejected("bulkhead"));
+
+		// Cancelled and completed calls both give their permit back
+		second.dispose();
+		pending.tryEmitValue(ClientResponse.create(HttpStatus.OK).build());
+		assertTrue(first.isDisposed());
+		call(HttpStatus.OK);
+		call(HttpStatus.OK);
+		assertEquals(State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void stalledBodyKeepsItsPermitUntilTheCallerGivesUp() {
+		answer = () -> Mono.just(ClientResponse.create(HttpStatus.OK).body(Flux.never()).build());
+		Disposable first = readBody().subscribe();
+		Disposable second = readBody().subscribe();
+
+		// Both responses are out, but neither call is over while its body is pending
+		assertThrows(MLServiceUnavailableException.class, () -> filter().block());
+		assertEquals(1.0, rejected("bulkhead"));
+
+		first.dispose();
+		second.dispose();
+		call(HttpStatus.OK);
+	}
+
+	@Test
+	void bodiesTimingOutCountAsFailures() {
+		answer = () -> Mono.just(ClientResponse.create(HttpStatus.OK).body(Flux.never()).build());
+		for (int i = 0; i < 4; i++) {
+			assertThrows(IllegalStateException.class, () -> readBody().block(Duration.ofMillis(20)));
+		}
+
+		assertEquals(State.OPEN, breaker.getState());
+		assertEquals(0.0, rejected("bulkhead"));
+	}
+
+	@Test
+	void callersFallBackWhileTheBreakerIsOpen() {
+		open();
+		int before = exchanged.get();
+		WebClient webClient = WebClient.builder()
+				.baseUrl("http://ml-service")
+				.exchangeFunction(stub)
+				.filter(breaker)
+				.build();
+		MLServiceClient client = new MLServiceClient(webClient, null, null, meterRegistry);
+
+		assertEquals("Title", client.generateTaskSummary("Title", "Description", "FEATURE").block());
+		assertTrue(client.recommendAssignee(new Task(), List.of()).block().isEmpty());
+		assertEquals(before, exchanged.get());
+		assertEquals(2.0, rejected("circuit-open"));
+	}
+
+	// Helper methods
+
+	// Window of 4 calls opening at 50% failures; 2 trial calls when half-open; 2 concurrent calls
+	private MLCircuitBreakerFilter breaker(Duration openDuration) {
+		return new MLCircuitBreakerFilter(4, 50, 4, openDuration, 2, 2, meterRegistry);
+	}
+
+	private void open() {
+		call(HttpStatus.OK);
+		call(HttpStatus.OK);
+		call(HttpStatus.INTERNAL_SERVER_ERROR);
+		call(HttpStatus.INTERNAL_SERVER_ERROR);
+		assertEquals(State.OPEN, breaker.getState());
+	}
+
+	// Releases the body like WebClient's retrieve() does, which is what ends the call
+	private void call(HttpStatus status) {
+		answer = () -> respond(status);
+		filter().flatMap(ClientResponse::releaseBody).block();
+	}
+
+	private Mono<String> readBody() {
+		return filter().flatMap(response -> response.bodyToMono(String.class));
+	}
+
+	private Mono<ClientResponse> filter() {
+		return breaker.filter(REQUEST, stub);
+	}
+
+	private double rejected(String reason) {
+		return meterRegistry.counter("flowdesk.ml.calls.rejected", "reason", reason).count();
+	}
+
+	private double transitions(State from, State to) {
+		return meterRegistry.counter("flowdesk.ml.circuit.transitions", "from", from.name(), "to", to.name()).count();
+	}
+
+	private static Mono<ClientResponse> respond(HttpStatus status) {
+		return Mono.just(ClientResponse.create(status).build());
+	}
+}
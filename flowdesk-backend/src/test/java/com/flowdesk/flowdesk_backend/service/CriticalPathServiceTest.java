@@ -0,0 +1,114 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.config.CacheConfig;
+import com.flowdesk.flowdesk_backend.dto.response.CriticalPathResponse;
+import com.flowdesk.flowdesk_backend.event.TaskChangedEvent;
+import com.flowdesk.flowdesk_backend.event.TaskDependencyChangedEvent;
+import com.flowdesk.flowdesk_backend.model.Project;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import com.flowdesk.flowdesk_backend.repository.ProjectRepository;
+import com.flowdesk.flowdesk_backend.repository.TaskDependencyRepository;
+import com.flowdesk.flowdesk_backend.repository.TaskRepository;
+import com.flowdesk.flowdesk_backend.service.ProjectScheduleTest.DependencyEdge;
+import com.flowdesk.flowdesk_backend.service.ProjectScheduleTest.ScheduleNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cached schedules kept current by committed changes
+ * Listeners are called directly; the repositories are mocks standing in for the committed state.
+ */
+class CriticalPathServiceTest {
+
+	private static final LocalDate START = LocalDate.of(2026, 1, 5);
+
+	private final TaskRepository taskRepository = mock(TaskRepository.class);
+	private final TaskDependencyRepository taskDependencyRepository = mock(TaskDependencyRepository.class);
+	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+
+	private final UUID projectId = UUID.randomUUID();
+	private final UUID a = UUID.randomUUID();
+	private final UUID b = UUID.randomUUID();
+
+	private CriticalPathService criticalPathService;
+
+	@BeforeEach
+	void setUp() {
+		criticalPathService = new CriticalPathService(taskRepository, taskDependencyRepository, projectRepository,
+				new ConcurrentMapCacheManager(CacheConfig.PROJECT_SCHEDULE_CACHE));
+
+		Project project = new Project();
+		project.setId(projectId);
+		project.setStartDate(START);
+		when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+		// B (1 day) is blocked by A (2 days)
+		when(taskRepository.findScheduleNodesByProjectId(projectId))
+				.thenReturn(List.of(node(a, 16), node(b, 8)));
+		when(taskDependencyRepository.findEdgesByProjectId(projectId))
+				.thenReturn(List.of(new DependencyEdge(b, a)));
+	}
+
+	@Test
+	void scheduleIsLoadedOnceAndThenServedFromTheCache() {
+		CriticalPathResponse first = criticalPathService.getCriticalPath(projectId);
+		CriticalPathResponse second = criticalPathService.getCriticalPath(projectId);
+
+		assertEquals(3, first.getDurationDays());
+		assertEquals(List.of(a, b), first.getCriticalPath());
+		assertEquals(first, second);
+		verify(taskRepository, times(1)).findScheduleNodesByProjectId(projectId);
+	}
+
+	@Test
+	void committedEstimateChangeIsAppliedWithoutReloading() {
+		criticalPathService.getCriticalPath(projectId);
+		when(taskRepository.findScheduleNodeById(b)).thenReturn(Optional.of(node(b, 40)));
+		when(taskDependencyRepository.findBlockedByIdsByTaskId(b)).thenReturn(List.of(a));
+
+		criticalPathService.onTaskChanged(new TaskChangedEvent(b, projectId, Set.of()));
+
+		assertEquals(7, criticalPathService.getCriticalPath(projectId).getDurationDays());
+		verify(taskRepository, times(1)).findScheduleNodesByProjectId(projectId);
+	}
+
+	@Test
+	void changeThatWouldCloseACycleDropsTheScheduleForAReload() {
+		criticalPathService.getCriticalPath(projectId);
+		// Seen out of order: A blocked by B while the cached graph still has B blocked by A
+		when(taskRepository.findScheduleNodeById(a)).thenReturn(Optional.of(node(a, 16)));
+		when(taskDependencyRepository.findBlockedByIdsByTaskId(a)).thenReturn(List.of(b));
+
+		criticalPathService.onTaskDependencyChanged(new TaskDependencyChangedEvent(a, projectId));
+
+		assertEquals(3, criticalPathService.getCriticalPath(projectId).getDurationDays());
+		verify(taskRepository, times(2)).findScheduleNodesByProjectId(projectId);
+	}
+
+	@Test
+	void changesBeforeTheFirstReadAreIgnored() {
+		criticalPathService.onTaskChanged(new TaskChangedEvent(b, projectId, Set.of()));
+
+		criticalPathService.getCriticalPath(projectId);
+
+		verify(taskRepository, times(0)).findScheduleNodeById(b);
+	}
+
+	// Helper methods
+
+	private ScheduleNode node(UUID id, Integer estimatedHours) {
+		return new ScheduleNode(id, projectId, "Task " + id, TaskStatus.TODO, estimatedHours, null);
+	}
+}
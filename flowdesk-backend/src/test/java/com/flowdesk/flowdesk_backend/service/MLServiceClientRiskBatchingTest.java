@@ -0,0 +1,238 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flowdesk.flowdesk_backend.dto.ml.RiskPredictionResponse;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.enums.TaskPriority;
+import com.flowdesk.flowdesk_backend.repository.SubtaskRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Micro-batching of risk predictions against a stub ML service
+ * Callers are told apart by their story points, which the stub echoes back as the risk score.
+ * The stub answers in reverse order, so a caller only gets its own score when results are
+ * matched by id rather than by position.
+ */
+class MLServiceClientRiskBatchingTest {
+
+	private static final int CALLERS = 10;
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private static HttpServer mlService;
+
+	// Story points of each batch the stub received, and of the batches it failed
+	private static final Queue<List<Integer>> batches = new ConcurrentLinkedQueue<>();
+	private static final Set<Integer> failed = ConcurrentHashMap.newKeySet();
+
+	// Story points whose batch the stub fails, and whose prediction it leaves out
+	private static volatile int failBatchWith;
+	private static volatile int omit;
+
+	private MLServiceClient client;
+
+	@BeforeAll
+	static void startMlService() throws IOException {
+		mlService = HttpServer.create(new InetSocketAddress("localhost", 0), CALLERS);
+		mlService.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		mlService.createContext("/api/ml/predict-risk-batch", exchange -> {
+			List<Integer> storyPoints = new ArrayList<>();
+			List<String> predictions = new ArrayList<>();
+			for (JsonNode task : MAPPER.readTree(exchange.getRequestBody()).get("tasks")) {
+				int points = task.get("storyPoints").asInt();
+				storyPoints.add(points);
+				if (points != omit) {
+					predictions.add(0, "{\"id\":\"" + task.get("id").asText() + "\",\"riskLevel\":\"HIGH\","
+							+ "\"riskScore\":" + points + ".7,\"confidence\":\"HIGH\"}");
+				}
+			}
+			batches.add(storyPoints);
+
+			if (storyPoints.contains(failBatchWith)) {
+				failed.addAll(storyPoints);
+				respond(exchange, 500, "{\"error\":\"model unavailable\"}");
+			} else {
+				respond(exchange, 200, "{\"predictions\":[" + String.join(",", predictions) + "]}");
+			}
+		});
+		mlService.start();
+	}
+
+	@AfterAll
+	static void stopMlService() {
+		mlService.stop(0);
+	}
+
+	@BeforeEach
+	void setUp() {
+		batches.clear();
+		failed.clear();
+		failBatchWith = -1;
+		omit = -1;
+	}
+
+	@AfterEach
+	void stopClient() {
+		client.stop();
+	}
+
+	@Test
+	void concurrentCallersShareOneCallAndGetTheirOwnResults() throws InterruptedException {
+		startClient(Duration.ofSeconds(1), 50);
+
+		List<RiskPredictionResponse> results = predictConcurrently();
+
+		assertEquals(List.of(CALLERS), batches.stream().map(List::size).toList());
+		for (int i = 0; i < CALLERS; i++) {
+			assertEquals("HIGH", results.get(i).getRiskLevel());
+			assertEquals(i + 1, results.get(i).getRiskScore());
+		}
+	}
+
+	@Test
+	void batchesAreCappedAtTheMaxSize() throws InterruptedException {
+		startClient(Duration.ofSeconds(1), 4);
+
+		List<RiskPredictionResponse> results = predictConcurrently();
+
+		assertEquals(List.of(2, 4, 4), batches.stream().map(List::size).sorted().toList());
+		for (int i = 0; i < CALLERS; i++) {
+			assertEquals(i + 1, results.get(i).getRiskScore());
+		}
+	}
+
+	@Test
+	void failedBatchGivesItsCallersTheFallback() throws InterruptedException {
+		startClient(Duration.ofSeconds(1), 50);
+		failBatchWith = 1;
+
+		List<RiskPredictionResponse> results = predictConcurrently();
+
+		assertEquals(1, batches.size());
+		results.forEach(MLServiceClientRiskBatchingTest::assertFallback);
+	}
+
+	@Test
+	void failedBatchDoesNotAffectOtherBatches() throws InterruptedException {
+		startClient(Duration.ofMillis(200), 5);
+		failBatchWith = 1;
+
+		List<RiskPredictionResponse> results = predictConcurrently();
+
+		assertTrue(batches.size() >= 2);
+		assertFalse(failed.isEmpty());
+		for (int i = 0; i < CALLERS; i++) {
+			if (failed.contains(i + 1)) {
+				assertFallback(results.get(i));
+			} else {
+				assertEquals(i + 1, results.get(i).getRiskScore());
+			}
+		}
+	}
+
+	@Test
+	void callerMissingFromTheResponseGetsTheFallback() throws InterruptedException {
+		startClient(Duration.ofSeconds(1), 50);
+		omit = 4;
+
+		List<RiskPredictionResponse> results = predictConcurrently();
+
+		for (int i = 0; i < CALLERS; i++) {
+			if (i + 1 == omit) {
+				assertFallback(results.get(i));
+			} else {
+				assertEquals(i + 1, results.get(i).getRiskScore());
+			}
+		}
+	}
+
+	// Helper methods
+
+	private void startClient(Duration window, int maxBatchSize) {
+		WebClient webClient = WebClient.builder()
+				.baseUrl("http://localhost:" + mlService.getAddress().getPort())
+				.build();
+		client = new MLServiceClient(webClient, mock(SubtaskRepository.class), mock(CacheManager.class),
+				new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(client, "riskBatchWindow", window);
+		ReflectionTestUtils.setField(client, "riskBatchMaxSize", maxBatchSize);
+		ReflectionTestUtils.setField(client, "riskCallerTimeout", Duration.ofSeconds(15));
+		client.start();
+	}
+
+	// Caller i asks for a task with i + 1 story points; results come back in caller order
+	private List<RiskPredictionResponse> predictConcurrently() throws InterruptedException {
+		CountDownLatch go = new CountDownLatch(1);
+		List<CompletableFuture<RiskPredictionResponse>> results = new ArrayList<>();
+		try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < CALLERS; i++) {
+				Task task = task(i + 1);
+				results.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						go.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return client.predictTaskRisk(task, null).block();
+				}, callers));
+			}
+			go.countDown();
+		}
+		return results.stream().map(CompletableFuture::join).toList();
+	}
+
+	private static Task task(int storyPoints) {
+		Task task = new Task();
+		task.setId(UUID.randomUUID());
+		task.setStoryPoints(storyPoints);
+		task.setEstimatedHours(8);
+		task.setPriority(TaskPriority.MEDIUM);
+		task.setCreatedAt(LocalDateTime.now());
+		return task;
+	}
+
+	private static void assertFallback(RiskPredictionResponse result) {
+		assertEquals("MEDIUM", result.getRiskLevel());
+		assertEquals(50, result.getRiskScore());
+	}
+
+	private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, body.length);
+		exchange.getResponseBody().write(body);
+		exchange.close();
+	}
+}
@@ -0,0 +1,163 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.dto.projection.TaskDependencyEdge;
+import com.flowdesk.flowdesk_backend.dto.projection.TaskScheduleNode;
+import com.flowdesk.flowdesk_backend.dto.response.CriticalPathResponse;
+import com.flowdesk.flowdesk_backend.dto.response.TaskScheduleResponse;
+import com.flowdesk.flowdesk_backend.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Critical path scheduling of one project's dependency graph
+ * Estimates are whole days of eight hours, so durations and offsets below are in days.
+ */
+class ProjectScheduleTest {
+
+	private static final LocalDate START = LocalDate.of(2026, 1, 5);
+
+	private final UUID projectId = UUID.randomUUID();
+	private final UUID a = UUID.randomUUID();
+	private final UUID b = UUID.randomUUID();
+	private final UUID c = UUID.randomUUID();
+	private final UUID d = UUID.randomUUID();
+
+	@Test
+	void diamondFollowsTheLongerBranch() {
+		// A (2) blocks B (1) and C (3), which both block D (1)
+		ProjectSchedule schedule = diamond();
+
+		CriticalPathResponse response = schedule.toResponse();
+		Map<UUID, TaskScheduleResponse> tasks = byId(response);
+
+		assertEquals(6, response.getDurationDays());
+		assertEquals(START.plusDays(6), response.getProjectedEndDate());
+		assertEquals(List.of(a, c, d), response.getCriticalPath());
+		assertEquals(0, tasks.get(a).getEarliestStart());
+		assertEquals(2, tasks.get(b).getEarliestStart());
+		assertEquals(2, tasks.get(c).getEarliestStart());
+		assertEquals(5, tasks.get(d).getEarliestStart());
+		assertEquals(2, tasks.get(b).getSlack());
+		assertEquals(4, tasks.get(b).getLatestStart());
+		assertFalse(tasks.get(b).getCritical());
+	}
+
+	@Test
+	void shorteningTheCriticalBranchIsAppliedIncrementally() {
+		ProjectSchedule schedule = diamond();
+
+		assertTrue(schedule.put(node(c, 8, null, TaskStatus.TODO), List.of(a)));
+
+		CriticalPathResponse response = schedule.toResponse();
+		assertEquals(4, response.getDurationDays());
+		assertEquals(List.of(a, b, c, d).stream().sorted().toList(),
+				response.getCriticalPath().stream().sorted().toList());
+		assertEquals(3, byId(response).get(d).getEarliestStart());
+	}
+
+	@Test
+	void cycleIsRejectedAndLeavesTheGraphUntouched() {
+		ProjectSchedule schedule = diamond();
+		CriticalPathResponse before = schedule.toResponse();
+
+		// D already depends on A through both branches
+		assertFalse(schedule.put(node(a, 16, null, TaskStatus.TODO), List.of(d)));
+		assertFalse(schedule.put(node(a, 16, null, TaskStatus.TODO), List.of(a)));
+
+		assertEquals(before, schedule.toResponse());
+	}
+
+	@Test
+	void taskWithoutDependenciesStartsAtOnceAndHasSlack() {
+		UUID standalone = UUID.randomUUID();
+		ProjectSchedule schedule = diamond();
+		assertTrue(schedule.put(node(standalone, null, null, TaskStatus.TODO), List.of()));
+
+		TaskScheduleResponse task = byId(schedule.toResponse()).get(standalone);
+		// Unestimated tasks count as one day
+		assertEquals(1, task.getDurationDays());
+		assertEquals(0, task.getEarliestStart());
+		assertEquals(5, task.getSlack());
+		assertTrue(task.getBlockedByTaskIds().isEmpty());
+		assertFalse(task.getCritical());
+	}
+
+	@Test
+	void singleTaskIsTheWholeCriticalPath() {
+		ProjectSchedule schedule = new ProjectSchedule(projectId);
+		schedule.load(START, List.of(node(a, 20, null, TaskStatus.IN_PROGRESS)), List.of());
+
+		CriticalPathResponse response = schedule.toResponse();
+		assertEquals(3, response.getDurationDays());
+		assertEquals(List.of(a), response.getCriticalPath());
+		assertEquals(0, response.getTasks().get(0).getSlack());
+	}
+
+	@Test
+	void dueDateBeforeTheChainEndMakesItsBlockersLate() {
+		ProjectSchedule schedule = new ProjectSchedule(projectId);
+		// B is due at the end of day 2 but cannot finish before day 3
+		schedule.load(START,
+				List.of(node(a, 16, null, TaskStatus.TODO), node(b, 8, START.plusDays(1), TaskStatus.TODO)),
+				List.of(edge(b, a)));
+
+		Map<UUID, TaskScheduleResponse> tasks = byId(schedule.toResponse());
+		assertEquals(-1, tasks.get(a).getSlack());
+		assertEquals(-1, tasks.get(b).getSlack());
+		assertTrue(tasks.get(a).getCritical());
+	}
+
+	@Test
+	void completedBlockerTakesNoTime() {
+		ProjectSchedule schedule = diamond();
+
+		assertTrue(schedule.put(node(a, 16, null, TaskStatus.DONE), List.of()));
+
+		CriticalPathResponse response = schedule.toResponse();
+		assertEquals(4, response.getDurationDays());
+		assertEquals(0, byId(response).get(c).getEarliestStart());
+	}
+
+	// Helper methods
+
+	private ProjectSchedule diamond() {
+		ProjectSchedule schedule = new ProjectSchedule(projectId);
+		schedule.load(START,
+				List.of(node(a, 16, null, TaskStatus.TODO), node(b, 8, null, TaskStatus.TODO),
+						node(c, 24, null, TaskStatus.TODO), node(d, 8, null, TaskStatus.TODO)),
+				List.of(edge(b, a), edge(c, a), edge(d, b), edge(d, c)));
+		return schedule;
+	}
+
+	private Map<UUID, TaskScheduleResponse> byId(CriticalPathResponse response) {
+		return response.getTasks().stream()
+				.collect(Collectors.toMap(TaskScheduleResponse::getTaskId, Function.identity()));
+	}
+
+	private TaskScheduleNode node(UUID id, Integer estimatedHours, LocalDate dueDate, TaskStatus status) {
+		return new ScheduleNode(id, projectId, "Task " + id, status, estimatedHours, dueDate);
+	}
+
+	private static TaskDependencyEdge edge(UUID taskId, UUID blockedByTaskId) {
+		return new DependencyEdge(taskId, blockedByTaskId);
+	}
+
+	// Stand-ins for the repository projections, shared with the service tests
+
+	record ScheduleNode(UUID getId, UUID getProjectId, String getTitle, TaskStatus getStatus,
+						Integer getEstimatedHours, LocalDate getDueDate) implements TaskScheduleNode {
+	}
+
+	record DependencyEdge(UUID getTaskId, UUID getBlockedByTaskId) implements TaskDependencyEdge {
+	}
+}
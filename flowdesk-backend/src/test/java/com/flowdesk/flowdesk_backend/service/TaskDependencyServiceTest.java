@@ -0,0 +1,126 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.dto.request.AddTaskDependencyRequest;
+import com.flowdesk.flowdesk_backend.dto.response.TaskDependencyResponse;
+import com.flowdesk.flowdesk_backend.event.TaskDependencyChangedEvent;
+import com.flowdesk.flowdesk_backend.exception.BadRequestException;
+import com.flowdesk.flowdesk_backend.exception.ConflictException;
+import com.flowdesk.flowdesk_backend.model.Project;
+import com.flowdesk.flowdesk_backend.model.Task;
+import com.flowdesk.flowdesk_backend.model.TaskDependency;
+import com.flowdesk.flowdesk_backend.repository.ProjectRepository;
+import com.flowdesk.flowdesk_backend.repository.TaskDependencyRepository;
+import com.flowdesk.flowdesk_backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Validation of new blocked-by relationships
+ * The repositories are mocks, so the cycle check is driven by what the transitive query reports.
+ */
+class TaskDependencyServiceTest {
+
+	private final TaskDependencyRepository taskDependencyRepository = mock(TaskDependencyRepository.class);
+	private final TaskRepository taskRepository = mock(TaskRepository.class);
+	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+	private final TaskDependencyService taskDependencyService =
+			new TaskDependencyService(taskDependencyRepository, taskRepository, projectRepository, eventPublisher);
+
+	private Project project;
+	private Task task;
+	private Task blocker;
+
+	@BeforeEach
+	void setUp() {
+		project = new Project();
+		project.setId(UUID.randomUUID());
+		task = task(project);
+		blocker = task(project);
+		when(projectRepository.findByIdForUpdate(project.getId())).thenReturn(Optional.of(project));
+		when(taskDependencyRepository.save(any(TaskDependency.class))).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	void dependencyWithoutCycleIsSavedAndPublished() {
+		TaskDependencyResponse response = taskDependencyService.addDependency(task.getId(), blockedBy(blocker));
+
+		assertEquals(task.getId(), response.getTaskId());
+		assertEquals(blocker.getId(), response.getBlockedByTaskId());
+		verify(taskDependencyRepository).save(any(TaskDependency.class));
+		verify(eventPublisher).publishEvent(new TaskDependencyChangedEvent(task.getId(), project.getId()));
+	}
+
+	@Test
+	void dependencyClosingACycleIsRejected() {
+		// The blocker already waits on the task through some chain
+		when(taskDependencyRepository.isTransitivelyBlockedBy(blocker.getId(), task.getId())).thenReturn(true);
+
+		assertThrows(ConflictException.class,
+				() -> taskDependencyService.addDependency(task.getId(), blockedBy(blocker)));
+
+		verify(taskDependencyRepository, never()).save(any(TaskDependency.class));
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	void duplicateDependencyIsRejected() {
+		when(taskDependencyRepository.existsByTaskIdAndBlockedById(task.getId(), blocker.getId())).thenReturn(true);
+
+		assertThrows(ConflictException.class,
+				() -> taskDependencyService.addDependency(task.getId(), blockedBy(blocker)));
+
+		verify(taskDependencyRepository, never()).save(any(TaskDependency.class));
+	}
+
+	@Test
+	void taskCannotBlockItself() {
+		assertThrows(BadRequestException.class,
+				() -> taskDependencyService.addDependency(task.getId(), blockedBy(task)));
+
+		verifyNoInteractions(projectRepository, eventPublisher);
+	}
+
+	@Test
+	void blockerFromAnotherProjectIsRejected() {
+		Project other = new Project();
+		other.setId(UUID.randomUUID());
+		Task foreign = task(other);
+
+		assertThrows(BadRequestException.class,
+				() -> taskDependencyService.addDependency(task.getId(), blockedBy(foreign)));
+
+		verifyNoInteractions(projectRepository, eventPublisher);
+	}
+
+	// Helper methods
+
+	private Task task(Project project) {
+		Task task = new Task();
+		task.setId(UUID.randomUUID());
+		task.setTitle("Task " + task.getId());
+		task.setProject(project);
+		when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
+		return task;
+	}
+
+	private static AddTaskDependencyRequest blockedBy(Task blocker) {
+		return AddTaskDependencyRequest.builder()
+				.blockedByTaskId(blocker.getId())
+				.build();
+	}
+}
@@ -0,0 +1,195 @@
+package com.flowdesk.flowdesk_backend.service;
+
+import com.flowdesk.flowdesk_backend.service.WorkloadRebalancer.Move;
+import com.flowdesk.flowdesk_backend.service.WorkloadRebalancer.Plan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Greedy rebalancing of story points across a team
+ * Every plan is checked for conserved points and for moves that only hand over tasks the donor
+ * actually holds; the unbounded move budgets rely on the loop ending by itself.
+ */
+@Timeout(5)
+class WorkloadRebalancerTest {
+
+	private static final double TOLERANCE = 0.1;
+
+	private final Map<UUID, UUID> assignees = new HashMap<>();
+
+	@Test
+	void balancedTeamNeedsNoMoves() {
+		WorkloadRebalancer rebalancer = new WorkloadRebalancer(TOLERANCE, Integer.MAX_VALUE);
+		for (int i = 0; i < 3; i++) {
+			addMember(rebalancer, 20, 10, 5, 5);
+		}
+
+		Plan plan = rebalancer.plan();
+
+		assertTrue(plan.balancedBefore());
+		assertTrue(plan.moves().isEmpty());
+		assertEquals(plan.loadsBefore(), plan.loadsAfter());
+	}
+
+	@Test
+	void singleOverloadedMemberSpreadsItsWork() {
+		WorkloadRebalancer rebalancer = new WorkloadRebalancer(TOLERANCE, Integer.MAX_VALUE);
+		UUID overloaded = addMember(rebalancer, 20, 5, 5, 5, 5, 5, 5);
+		UUID first = addMember(rebalancer, 20);
+		UUID second = addMember(rebalancer, 20);
+
+		Plan plan = rebalancer.plan();
+
+		assertFalse(plan.balancedBefore());
+		assertTrue(plan.balancedAfter());
+		assertEquals(0.5, plan.band().target(), 1e-9);
+		assertTrue(plan.moves().stream().allMatch(move -> move.fromUserId().equals(overloaded)));
+		assertEquals(10, plan.loadsAfter().get(overloaded));
+		assertEquals(10, plan.loadsAfter().get(first));
+		assertEquals(10, plan.loadsAfter().get(second));
+		assertValid(plan);
+	}
+
+	@Test
+	void tiedMembersAreBalancedTheSameWayEveryTime() {
+		List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+		List<UUID> taskIds = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			taskIds.add(UUID.randomUUID());
+		}
+
+		// Two equally overloaded members and two equally idle ones
+		Plan plan = tiedTeam(ids, taskIds);
+		Plan again = tiedTeam(ids, taskIds);
+
+		assertTrue(plan.balancedAfter());
+		plan.loadsAfter().values().forEach(load -> assertEquals(10, load));
+		assertEquals(plan.moves(), again.moves());
+		assertValid(plan);
+	}
+
+	@Test
+	void taskTooLargeForAnyReceiverEndsThePlan() {
+		WorkloadRebalancer rebalancer = new WorkloadRebalancer(TOLERANCE, Integer.MAX_VALUE);
+		UUID overloaded = addMember(rebalancer, 10, 20);
+		addMember(rebalancer, 10);
+
+		Plan plan = rebalancer.plan();
+
+		assertTrue(plan.moves().isEmpty());
+		assertFalse(plan.balancedAfter());
+		assertEquals(20, plan.loadsAfter().get(overloaded));
+	}
+
+	@Test
+	void moveBudgetIsRespected() {
+		WorkloadRebalancer rebalancer = new WorkloadRebalancer(TOLERANCE, 2);
+		addMember(rebalancer, 20, 5, 5, 5, 5, 5, 5);
+		addMember(rebalancer, 20);
+		addMember(rebalancer, 20);
+
+		Plan plan = rebalancer.plan();
+
+		assertEquals(2, plan.moves().size());
+		assertFalse(plan.balancedAfter());
+		assertValid(plan);
+	}
+
+	@Test
+	void membersWithoutCapacityAreLeftOut() {
+		WorkloadRebalancer rebalancer = new WorkloadRebalancer(TOLERANCE, Integer.MAX_VALUE);
+		UUID unavailable = addMember(rebalancer, 0, 8);
+		addMember(rebalancer, 10, 5);
+
+		Plan plan = rebalancer.plan();
+
+		assertFalse(plan.loadsAfter().containsKey(unavailable));
+		assertTrue(plan.moves().isEmpty());
+	}
+
+	@Test
+	void randomTeamsConservePointsAndTerminate() {
+		Random random = new Random(42);
+		for (int team = 0; team < 200; team++) {
+			WorkloadRebalancer rebalancer = new WorkloadRebalancer(random.nextDouble() * 0.3, Integer.MAX_VALUE);
+			int size = 1 + random.nextInt(8);
+			for (int i = 0; i < size; i++) {
+				int[] points = new int[random.nextInt(10)];
+				for (int t = 0; t < points.length; t++) {
+					points[t] = 1 + random.nextInt(13);
+				}
+				addMember(rebalancer, random.nextInt(40), points);
+			}
+
+			Plan plan = rebalancer.plan();
+
+			assertValid(plan);
+			if (plan.balancedBefore()) {
+				assertTrue(plan.moves().isEmpty());
+			}
+		}
+	}
+
+	// Helper methods
+
+	private Plan tiedTeam(List<UUID> ids, List<UUID> taskIds) {
+		WorkloadRebalancer rebalancer = new WorkloadRebalancer(TOLERANCE, Integer.MAX_VALUE);
+		for (int m = 0; m < ids.size(); m++) {
+			boolean overloaded = m < 2;
+			rebalancer.addMember(ids.get(m), overloaded ? 20 : 0, 10);
+			for (int t = 0; overloaded && t < 4; t++) {
+				UUID taskId = taskIds.get(m * 4 + t);
+				rebalancer.addMovableTask(taskId, ids.get(m), 5);
+				assignees.put(taskId, ids.get(m));
+			}
+		}
+		return rebalancer.plan();
+	}
+
+	// Load is the sum of the member's tasks, all of which are movable
+	private UUID addMember(WorkloadRebalancer rebalancer, int capacity, int... taskPoints) {
+		UUID userId = UUID.randomUUID();
+		int load = 0;
+		for (int points : taskPoints) {
+			load += points;
+		}
+		rebalancer.addMember(userId, load, capacity);
+		for (int points : taskPoints) {
+			UUID taskId = UUID.randomUUID();
+			rebalancer.addMovableTask(taskId, userId, points);
+			assignees.put(taskId, userId);
+		}
+		return userId;
+	}
+
+	private void assertValid(Plan plan) {
+		assertEquals(sum(plan.loadsBefore()), sum(plan.loadsAfter()));
+
+		Map<UUID, Integer> loads = new HashMap<>(plan.loadsBefore());
+		Map<UUID, UUID> owners = new HashMap<>(assignees);
+		for (Move move : plan.moves()) {
+			assertEquals(move.fromUserId(), owners.get(move.taskId()));
+			owners.put(move.taskId(), move.toUserId());
+			loads.merge(move.fromUserId(), -move.points(), Integer::sum);
+			loads.merge(move.toUserId(), move.points(), Integer::sum);
+			assertEquals(loads.get(move.fromUserId()), move.fromLoadAfter());
+			assertEquals(loads.get(move.toUserId()), move.toLoadAfter());
+		}
+		assertEquals(plan.loadsAfter(), loads);
+	}
+
+	private static int sum(Map<UUID, Integer> loads) {
+		return loads.values().stream().mapToInt(Integer::intValue).sum();
+	}
+}
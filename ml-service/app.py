@@ -9,6 +9,7 @@ import joblib
 import numpy as np
 from sentence_transformers import SentenceTransformer
 from sklearn.metrics.pairwise import cosine_similarity
+import hashlib
 import os
 
 app = Flask(__name__)
@@ -33,36 +34,56 @@ assignee_model = joblib.load(f"{MODEL_DIR}/assignee_model.pkl")
 # Load Sentence Transformer
 embedding_model = SentenceTransformer(f"{MODEL_DIR}/embedding_model")
 
+# Risk model version: digest of the files behind predict-risk, so clients can
+# tell when cached predictions came from a different model
+def _risk_model_version():
+    digest = hashlib.sha256()
+    for name in ("risk_model.pkl", "label_encoder.pkl", "feature_names.pkl"):
+        with open(f"{MODEL_DIR}/{name}", "rb") as f:
+            digest.update(f.read())
+    return digest.hexdigest()[:12]
+
+MODEL_VERSION = _risk_model_version()
+
 print("✅ All models loaded successfully!")
 print(f"   Risk model classes: {label_encoder.classes_}")
 print(f"   Feature names: {feature_names}")
 print(f"   Embedding dimension: {embedding_model.get_sentence_embedding_dimension()}")
+print(f"   Risk model version: {MODEL_VERSION}")
 
 # ============================================================================
 # ENDPOINT 1: PREDICT TASK RISK
 # ============================================================================
 
+# Priority as sent by the backend (1=HIGH, 2=MEDIUM, 3=LOW) or as an enum name
+PRIORITY_MAP = {'CRITICAL': 1, 'HIGH': 2, 'MEDIUM': 3, 'LOW': 4}
+BACKEND_PRIORITY_MAP = {1: 2, 2: 3, 3: 4}
+
+def risk_features(data):
+    """Feature row of one task, in the order the risk model was trained on"""
+    estimated = float(data.get('estimatedHours') or 0)
+    story_points = int(data.get('storyPoints') or 0)
+    workload = float(data.get('developerWorkload', data.get('assignedToWorkload')) or 0)
+
+    priority_value = data.get('priority', 'MEDIUM')
+    if isinstance(priority_value, str):
+        priority = PRIORITY_MAP.get(priority_value, 3)
+    else:
+        priority = BACKEND_PRIORITY_MAP.get(priority_value, 3)
+
+    subtasks = int(data.get('numSubtasks', data.get('subtaskCount')) or 0)
+    age_days = int(data.get('taskAgeDays') or 0)
+    return [estimated, story_points, workload, priority, subtasks, age_days]
+
+
 @app.route('/api/ml/predict-risk', methods=['POST'])
 def predict_risk():
     """Predicts task completion risk"""
     try:
         data = request.get_json()
         
-        # Extract features
-        estimated = float(data.get('estimatedHours', 0))
-        story_points = int(data.get('storyPoints', 0))
-        workload = float(data.get('assignedToWorkload', 0))
-        
-        # Map priority enum to numeric
-        priority_map = {'CRITICAL': 1, 'HIGH': 2, 'MEDIUM': 3, 'LOW': 4}
-        priority_str = data.get('priority', 'MEDIUM')
-        priority = priority_map.get(priority_str, 3)
-        
-        subtasks = int(data.get('subtaskCount', 0))
-        age_days = int(data.get('taskAgeDays', 0))
-        
         # Create feature vector
-        features = np.array([[estimated, story_points, workload, priority, subtasks, age_days]])
+        features = np.array([risk_features(data)])
         
         # Predict
         risk_pred = risk_model.predict(features)[0]
@@ -98,6 +119,42 @@ def predict_risk():
         return jsonify({"error": str(e)}), 500
 
 
+@app.route('/api/ml/predict-risk-batch', methods=['POST'])
+def predict_risk_batch():
+    """Predicts risk for many tasks with one model call; results keep the request order"""
+    try:
+        tasks = request.get_json().get('tasks', [])
+        if not tasks:
+            return jsonify({"predictions": []}), 200
+
+        features = np.array([risk_features(task) for task in tasks])
+        risk_preds = risk_model.predict(features)
+        risk_probas = risk_model.predict_proba(features)
+        risk_levels = label_encoder.inverse_transform(risk_preds)
+
+        predictions = []
+        for task, risk_level, risk_proba in zip(tasks, risk_levels, risk_probas):
+            max_proba = float(np.max(risk_proba))
+            predictions.append({
+                "id": task.get('id'),
+                "riskLevel": risk_level,
+                "riskScore": max_proba,
+                "willMissDeadline": risk_level == "HIGH",
+                "confidence": "HIGH" if max_proba > 0.7 else "MEDIUM" if max_proba > 0.5 else "LOW",
+                "probabilities": {
+                    label: float(prob)
+                    for label, prob in zip(label_encoder.classes_, risk_proba)
+                }
+            })
+
+        print(f"✅ Batch risk prediction: {len(predictions)} tasks")
+        return jsonify({"predictions": predictions}), 200
+
+    except Exception as e:
+        print(f"❌ Error in predict_risk_batch: {str(e)}")
+        return jsonify({"error": str(e)}), 500
+
+
 # ============================================================================
 # ENDPOINT 2: RECOMMEND ASSIGNEES
 # ============================================================================
@@ -221,7 +278,8 @@ def health_check():
     return jsonify({
         "status": "healthy",
         "service": "FlowDesk ML Service",
-        "models_loaded": True
+        "models_loaded": True,
+        "model_version": MODEL_VERSION
     }), 200
 
 
@@ -235,6 +293,7 @@ if __name__ == '__main__':
     print("="*60)
     print("📡 Endpoints:")
     print("   POST http://localhost:5000/api/ml/predict-risk")
+    print("   POST http://localhost:5000/api/ml/predict-risk-batch")
     print("   POST http://localhost:5000/api/ml/recommend-assignees")
     print("   POST http://localhost:5000/api/ml/generate-summary")
     print("   GET  http://localhost:5000/health")